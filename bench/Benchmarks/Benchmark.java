@@ -0,0 +1,26 @@
+package Benchmarks;
+
+/**
+ * Interfaz Benchmark
+ *
+ * Un microbenchmark del {@link BenchmarkRunner}. Cada implementación prepara sus datos
+ * fuera de la medición y devuelve solo el tiempo de las operaciones medidas, de modo que
+ * la preparación (crear cartones, registrar jugadores...) no contamina el resultado.
+ */
+public interface Benchmark {
+
+    /**
+     * Nombre con el que se muestra el benchmark (y por el que se puede filtrar).
+     *
+     * @return El nombre del benchmark.
+     */
+    String getName();
+
+    /**
+     * Ejecuta la operación medida `ops` veces.
+     *
+     * @param ops El número de operaciones a ejecutar.
+     * @return Los nanosegundos empleados solo en las operaciones medidas.
+     */
+    long measure(int ops);
+}
@@ -0,0 +1,79 @@
+package Benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Clase BenchmarkRunner
+ *
+ * Ejecutor mínimo de microbenchmarks, sin dependencias externas. Para cada {@link Benchmark}
+ * calibra la cantidad de operaciones hasta que una iteración dure al menos
+ * {@link #TARGET_ITERATION_NANOS}, hace {@link #WARMUP_ITERATIONS} iteraciones de calentamiento
+ * (para que el JIT compile el camino medido) y luego {@link #MEASURED_ITERATIONS} medidas,
+ * informando la media y el mínimo en ns/op.
+ *
+ * Uso: {@code ant bench} o {@code java Benchmarks.BenchmarkRunner [filtro...]}; los filtros
+ * seleccionan los benchmarks cuyo nombre contenga alguno de los textos.
+ */
+public class BenchmarkRunner {
+    private static final long TARGET_ITERATION_NANOS = 100_000_000L; // 100 ms por iteración.
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    /**
+     * Destino de los resultados de los benchmarks para que el JIT no elimine el trabajo medido.
+     */
+    public static volatile long sink;
+
+    public static void main(String[] args) {
+        List<Benchmark> benchmarks = new ArrayList<>(CoreBenchmarks.all());
+        System.out.printf("%-45s %14s %14s%n", "Benchmark", "media ns/op", "mín ns/op");
+        for (Benchmark benchmark : benchmarks) {
+            if (matches(benchmark.getName(), args)) {
+                run(benchmark);
+            }
+        }
+    }
+
+    private static boolean matches(String name, String[] filters) {
+        if (filters.length == 0) {
+            return true;
+        }
+        for (String filter : filters) {
+            if (name.contains(filter)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void run(Benchmark benchmark) {
+        int ops = calibrate(benchmark);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            benchmark.measure(ops);
+        }
+        double total = 0;
+        double min = Double.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            double nanosPerOp = (double) benchmark.measure(ops) / ops;
+            total += nanosPerOp;
+            min = Math.min(min, nanosPerOp);
+        }
+        System.out.printf("%-45s %14.1f %14.1f%n", benchmark.getName(), total / MEASURED_ITERATIONS, min);
+    }
+
+    /**
+     * Duplica la cantidad de operaciones hasta que una iteración alcance la duración objetivo.
+     */
+    private static int calibrate(Benchmark benchmark) {
+        int ops = 1;
+        while (ops < (1 << 30)) {
+            long elapsed = benchmark.measure(ops);
+            if (elapsed >= TARGET_ITERATION_NANOS) {
+                break;
+            }
+            ops *= 2;
+        }
+        return ops;
+    }
+}
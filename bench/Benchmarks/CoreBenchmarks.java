@@ -0,0 +1,313 @@
+package Benchmarks;
+
+import Core.Card;
+import Core.CardLibrary;
+import Core.CardStore;
+import Core.Game;
+import Patterns.Behavioral.Strategy.WinStrategy;
+import Patterns.Creational.AbstractFactory.CardFactory;
+import Patterns.Structural.Decorator.BaseNumberFormatter;
+import Patterns.Structural.Decorator.LastCalledNumberDecorator;
+import Patterns.Structural.Decorator.MarkedNumberDecorator;
+import Patterns.Structural.Decorator.WinningNumberDecorator;
+import Players.Player;
+import Players.Player1;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * Clase CoreBenchmarks
+ *
+ * Microbenchmarks de los caminos críticos del juego: marcar una bola en un cartón,
+ * comprobar la victoria con cada {@link WinStrategy}, generar el HTML de un cartón,
+ * crear cartones, asignarlos de una biblioteca de cartones impresos y jugar rondas completas con 10, 1.000 y 100.000 cartones.
+ *
+ * Todos los datos se generan con una semilla fija para que dos ejecuciones midan lo mismo.
+ * Cada benchmark prepara sus datos la primera vez que se mide, así que una ejecución filtrada
+ * no escribe la biblioteca de cartones ni crea las partidas grandes de los que no se ejecutan.
+ */
+public final class CoreBenchmarks {
+    private static final long SEED = 20240601L;
+    private static final int CARD_POOL = 1024; // Potencia de 2: el índice se calcula con una máscara.
+    private static final int LIBRARY_CARDS = 1_000_000;
+
+    private CoreBenchmarks() {
+    }
+
+    /**
+     * Crea la lista completa de benchmarks, sin preparar todavía ninguno.
+     *
+     * @return Los benchmarks, en el orden en que se ejecutan.
+     */
+    public static List<Benchmark> all() {
+        List<Benchmark> benchmarks = new ArrayList<>();
+        benchmarks.add(lazy("Card.markNumber", CoreBenchmarks::markNumber));
+        for (WinStrategy strategy : Game.availableWinStrategies()) {
+            benchmarks.add(lazy("WinStrategy.checkWin [" + strategy.getName() + "]", name -> checkWin(name, strategy)));
+        }
+        benchmarks.add(lazy("Player.getCardDisplayString", CoreBenchmarks::cardDisplayString));
+        benchmarks.add(lazy("CardFactory.createDefaultCard", CoreBenchmarks::createDefaultCard));
+        benchmarks.add(lazy("CardLibrary.addTo [" + LIBRARY_CARDS + " cartones]", CoreBenchmarks::libraryCard));
+        for (int cards : new int[] {10, 1_000, 100_000}) {
+            benchmarks.add(lazy("Game.playRoundGUI [" + cards + " cartones]", name -> playRound(name, cards)));
+        }
+        return benchmarks;
+    }
+
+    /**
+     * Envuelve un benchmark para que su preparación se ejecute en la primera medición, no al
+     * crear la lista: el {@link BenchmarkRunner} filtra por el nombre sin preparar nada.
+     *
+     * @param name El nombre del benchmark.
+     * @param setup Prepara los datos y devuelve el benchmark que se mide, con el nombre indicado.
+     */
+    private static Benchmark lazy(String name, Function<String, Benchmark> setup) {
+        return new Benchmark() {
+            private Benchmark prepared;
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public long measure(int ops) {
+                if (prepared == null) {
+                    prepared = setup.apply(name);
+                }
+                return prepared.measure(ops);
+            }
+        };
+    }
+
+    private static Card[] cardPool(SplittableRandom random) {
+        CardFactory factory = new CardFactory(random);
+        Card[] cards = new Card[CARD_POOL];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = factory.createDefaultCard();
+        }
+        return cards;
+    }
+
+    /**
+     * Card.markNumber con bolas de 1 a 75 sobre un conjunto de cartones (aciertos y fallos).
+     */
+    private static Benchmark markNumber(String name) {
+        Card[] cards = cardPool(new SplittableRandom(SEED));
+        return new Benchmark() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public long measure(int ops) {
+                long hits = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < ops; i++) {
+                    if (cards[i & (CARD_POOL - 1)].markNumber(i % 75 + 1)) {
+                        hits++;
+                    }
+                }
+                long elapsed = System.nanoTime() - start;
+                BenchmarkRunner.sink += hits;
+                return elapsed;
+            }
+        };
+    }
+
+    /**
+     * WinStrategy.checkWin sobre cartones con unas 30 bolas cantadas.
+     */
+    private static Benchmark checkWin(String name, WinStrategy strategy) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Card[] cards = cardPool(random);
+        for (Card card : cards) {
+            for (int k = 0; k < 30; k++) {
+                card.markNumber(random.nextInt(1, 76));
+            }
+        }
+        return new Benchmark() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public long measure(int ops) {
+                long wins = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < ops; i++) {
+                    if (strategy.checkWin(cards[i & (CARD_POOL - 1)])) {
+                        wins++;
+                    }
+                }
+                long elapsed = System.nanoTime() - start;
+                BenchmarkRunner.sink += wins;
+                return elapsed;
+            }
+        };
+    }
+
+    /**
+     * Player.getCardDisplayString con la misma cadena de decoradores que usa la GUI.
+     */
+    private static Benchmark cardDisplayString(String name) {
+        Card[] cards = cardPool(new SplittableRandom(SEED));
+        Player player = new Player1("Benchmark");
+        player.setCardNumberFormatter(new MarkedNumberDecorator(
+                new LastCalledNumberDecorator(
+                        new WinningNumberDecorator(
+                                new BaseNumberFormatter()))));
+        return new Benchmark() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public long measure(int ops) {
+                long length = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < ops; i++) {
+                    length += player.getCardDisplayString(cards[i & (CARD_POOL - 1)], i % 75 + 1).length();
+                }
+                long elapsed = System.nanoTime() - start;
+                BenchmarkRunner.sink += length;
+                return elapsed;
+            }
+        };
+    }
+
+    /**
+     * CardFactory.createDefaultCard.
+     */
+    private static Benchmark createDefaultCard(String name) {
+        CardFactory factory = new CardFactory(new SplittableRandom(SEED));
+        return new Benchmark() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public long measure(int ops) {
+                long checksum = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < ops; i++) {
+                    checksum += factory.createDefaultCard().getNumber(0, 0);
+                }
+                long elapsed = System.nanoTime() - start;
+                BenchmarkRunner.sink += checksum;
+                return elapsed;
+            }
+        };
+    }
+
+    /**
+     * CardLibrary.addTo: copiar al almacén el cartón de un número de serie al azar de una
+     * biblioteca de {@value #LIBRARY_CARDS} cartones (las regiones se mapean en la preparación).
+     */
+    private static Benchmark libraryCard(String name) {
+        CardLibrary library;
+        try {
+            Path file = Files.createTempFile("bench", ".blib");
+            file.toFile().deleteOnExit();
+            CardLibrary.create(file, 5, 5, 1, LIBRARY_CARDS, new SplittableRandom(SEED));
+            library = CardLibrary.open(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long serial = 1; serial <= LIBRARY_CARDS; serial += 1 << 20) {
+            library.getCard(serial); // Mapea todas las regiones antes de medir.
+        }
+        return new Benchmark() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public long measure(int ops) {
+                CardStore store = new CardStore(5, 5, ops);
+                long checksum = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < ops; i++) {
+                    checksum += library.addTo(store, 1 + random.nextLong(LIBRARY_CARDS)).getNumber(0, 0);
+                }
+                long elapsed = System.nanoTime() - start;
+                BenchmarkRunner.sink += checksum;
+                return elapsed;
+            }
+        };
+    }
+
+    /**
+     * Game.playRoundGUI (cantar, marcar vía índice y detectar victorias) con la cantidad de cartones indicada.
+     * Las partidas se preparan fuera de la medición; cada operación es una ronda. Los cartones
+     * de cada partida se añaden a su {@link CardStore almacén}, como los de una partida real.
+     */
+    private static Benchmark playRound(String name, int cardCount) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[][] cards = new int[cardCount][];
+        CardFactory factory = new CardFactory(random);
+        for (int i = 0; i < cardCount; i++) {
+            cards[i] = numbersOf(factory.createDefaultCard());
+        }
+        return new Benchmark() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public long measure(int ops) {
+                long elapsed = 0;
+                long checksum = 0;
+                int done = 0;
+                while (done < ops) {
+                    Game game = newGame();
+                    long start = System.nanoTime();
+                    while (done < ops && game.hasMoreBalls()) {
+                        checksum += game.playRoundGUI();
+                        done++;
+                    }
+                    elapsed += System.nanoTime() - start;
+                }
+                BenchmarkRunner.sink += checksum;
+                return elapsed;
+            }
+
+            private Game newGame() {
+                Game game = new Game(random.split());
+                Player player = new Player1("Benchmark");
+                CardStore store = game.getCardStore();
+                for (int[] numbers : cards) {
+                    // Los mismos números sin marcas: cada partida empieza desde cero.
+                    player.addCard(store.add(numbers));
+                }
+                game.addPlayer(player);
+                game.setWinStrategy(Game.availableWinStrategies().get(0));
+                return game;
+            }
+        };
+    }
+
+    private static int[] numbersOf(Card card) {
+        int[] numbers = new int[card.getRows() * card.getCols()];
+        for (int i = 0; i < card.getRows(); i++) {
+            for (int j = 0; j < card.getCols(); j++) {
+                numbers[i * card.getCols() + j] = card.getNumber(i, j);
+            }
+        }
+        return numbers;
+    }
+}
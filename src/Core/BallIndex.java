@@ -0,0 +1,161 @@
+package Core;
+
+import Players.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Clase BallIndex
+ *
+ * Índice invertido bola -> (cartón, casilla) construido en el momento del registro de jugadores.
+ * En lugar de notificar cada bola a todos los jugadores y que cada uno revise todos sus cartones,
+ * el {@link Game juego} consulta este índice y solo toca los cartones que realmente contienen la bola.
+ * Con cartones estándar (24 números de 75 posibles) cada bola afecta aproximadamente a un tercio
+ * de los cartones, y el coste por bola es proporcional al número de aciertos, no al total de cartones.
+ *
+ * Cada entrada (posting) se codifica en un único `int`: `(ordinal << CELL_BITS) | casilla`,
+ * donde `ordinal` es la posición del cartón en el índice.
+ *
+ * No participa directamente en un patrón de diseño GoF; sustituye la difusión del patrón
+ * Observer a los jugadores por una entrega dirigida.
+ */
+public class BallIndex {
+    /**
+     * Bits reservados para el índice de casilla dentro de cada posting (hasta 64 casillas,
+     * igual que la máscara de {@link Card#getMarkedMask()}).
+     */
+    private static final int CELL_BITS = 6;
+    private static final int CELL_MASK = (1 << CELL_BITS) - 1;
+
+    private final List<Card> cards = new ArrayList<>();    // Cartones indexados, por ordinal.
+    private final List<Player> owners = new ArrayList<>(); // Dueño de cada cartón, por ordinal.
+    private int[][] postings;                              // Postings por número de bola.
+    private int[] postingCounts;                           // Cantidad de postings válidos por bola.
+
+    /**
+     * Crea un índice vacío para bolas en el rango 1..maxBall.
+     *
+     * @param maxBall El número de bola más alto del juego (75 en el Bingo estándar).
+     */
+    public BallIndex(int maxBall) {
+        this.postings = new int[maxBall + 1][];
+        this.postingCounts = new int[maxBall + 1];
+        Arrays.fill(postings, new int[0]);
+    }
+
+    /**
+     * Indexa todos los cartones que el jugador posee en este momento.
+     * Los cartones que se le añadan después no quedarán indexados.
+     *
+     * @param player El jugador cuyos cartones se indexan.
+     */
+    public void addPlayer(Player player) {
+        for (Card card : player.getCards()) {
+            addCard(card, player);
+        }
+    }
+
+    /**
+     * Indexa un cartón, añadiendo un posting por cada casilla numerada (la casilla FREE no se indexa).
+     *
+     * @param card El cartón a indexar.
+     * @param owner El jugador dueño del cartón.
+     * @return El ordinal asignado al cartón dentro del índice.
+     */
+    public int addCard(Card card, Player owner) {
+        int ordinal = cards.size();
+        cards.add(card);
+        owners.add(owner);
+        for (int i = 0; i < card.getRows(); i++) {
+            for (int j = 0; j < card.getCols(); j++) {
+                int number = card.getNumber(i, j);
+                int cell = i * card.getCols() + j;
+                // Solo las casillas que el propio cartón reconoce para ese número (excluye FREE).
+                if (number >= 1 && number < postings.length && card.getCellIndex(number) == cell) {
+                    append(number, (ordinal << CELL_BITS) | cell);
+                }
+            }
+        }
+        return ordinal;
+    }
+
+    /**
+     * Añade un posting a la lista de una bola, ampliando el array cuando se llena.
+     */
+    private void append(int ball, int posting) {
+        int[] list = postings[ball];
+        int count = postingCounts[ball];
+        if (count == list.length) {
+            list = Arrays.copyOf(list, Math.max(8, count * 2));
+            postings[ball] = list;
+        }
+        list[count] = posting;
+        postingCounts[ball] = count + 1;
+    }
+
+    /**
+     * Marca la bola en todos los cartones que la contienen.
+     *
+     * @param ball La bola cantada.
+     * @return La cantidad de cartones en los que se marcó la bola.
+     */
+    public int markBall(int ball) {
+        return markBall(ball, null);
+    }
+
+    /**
+     * Marca la bola en todos los cartones que la contienen e informa al detector de victorias
+     * de cada casilla que se marca por primera vez.
+     *
+     * @param ball La bola cantada.
+     * @param tracker El {@link WinTracker} a notificar, o `null` si no hay ninguno.
+     * @return La cantidad de cartones en los que se marcó la bola.
+     */
+    public int markBall(int ball, WinTracker tracker) {
+        if (ball < 1 || ball >= postings.length) {
+            return 0;
+        }
+        int[] list = postings[ball];
+        int count = postingCounts[ball];
+        for (int k = 0; k < count; k++) {
+            int posting = list[k];
+            int ordinal = posting >>> CELL_BITS;
+            int cell = posting & CELL_MASK;
+            if (cards.get(ordinal).markCell(cell) && tracker != null) {
+                tracker.onCellMarked(ordinal, cell);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Obtiene la cantidad de cartones indexados.
+     *
+     * @return El número de cartones.
+     */
+    public int getCardCount() {
+        return cards.size();
+    }
+
+    /**
+     * Obtiene el cartón con el ordinal indicado.
+     *
+     * @param ordinal El ordinal del cartón en el índice.
+     * @return El {@link Card cartón}.
+     */
+    public Card getCard(int ordinal) {
+        return cards.get(ordinal);
+    }
+
+    /**
+     * Obtiene el dueño del cartón con el ordinal indicado.
+     *
+     * @param ordinal El ordinal del cartón en el índice.
+     * @return El {@link Player jugador} dueño del cartón.
+     */
+    public Player getOwner(int ordinal) {
+        return owners.get(ordinal);
+    }
+}
@@ -1,10 +1,9 @@
 package Core;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Clase Card
@@ -13,6 +12,11 @@ import java.util.Random;
  * La clase maneja la generación de números siguiendo las reglas estándar del Bingo (B-I-N-G-O)
  * y permite marcar números a medida que son llamados.
  *
+ * Un cartón es una vista ligera sobre un {@link CardStore}: sus números (un byte por casilla)
+ * y su máscara de marcado viven en los arrays compartidos del almacén, por lo que un objeto
+ * Card solo guarda el almacén y su posición en él. Por eso un cartón admite como mucho
+ * {@value CardStore#MAX_CELLS} casillas y números de 0 a {@value CardStore#MAX_NUMBER}.
+ *
  * Esta clase es un componente fundamental del sistema, y es utilizada por otras clases
  * como {@link Player} y las {@link WinStrategy} para
  * verificar las condiciones de victoria.
@@ -23,26 +27,21 @@ import java.util.Random;
  */
 public class Card {
     /**
-     * Matriz que almacena los números del cartón (por ejemplo, 5x5).
-     * El valor 0 se usa para representar la casilla "FREE" si aplica.
-     */
-    private int[][] numbers;
-
-    /**
-     * Matriz booleana que almacena el estado de marcado de cada número en el cartón.
-     * `true` si el número ha sido marcado, `false` en caso contrario.
+     * Almacén donde viven los números y las marcas de este cartón.
+     * Un cartón creado con sus propios constructores tiene un almacén de un solo cartón;
+     * los creados por un {@link CardStore} compartido son solo vistas sobre él.
      */
-    private boolean[][] marked;
+    private final CardStore store;
 
     /**
-     * Número de filas del cartón.
+     * Posición del cartón dentro de su almacén.
      */
-    private final int rows;
+    private final int slot;
 
     /**
-     * Número de columnas del cartón.
+     * Valor devuelto por {@link #getCellIndex(int)} para los números que no aparecen en el cartón.
      */
-    private final int cols;
+    private static final int NO_CELL = -1;
 
     /**
      * Rangos de números para cada columna del cartón de Bingo, siguiendo la convención B-I-N-G-O.
@@ -56,6 +55,17 @@ public class Card {
             {61, 75}   // O
     };
 
+    /**
+     * Cantidad de números del rango de cada columna.
+     */
+    private static final int COLUMN_RANGE_SIZE = 15;
+
+    /**
+     * Array auxiliar de cada hilo con los números disponibles de la columna que se está llenando.
+     * Se reutiliza para todos los cartones, de modo que generar un cartón no crea basura.
+     */
+    private static final ThreadLocal<int[]> COLUMN_POOL = ThreadLocal.withInitial(() -> new int[COLUMN_RANGE_SIZE]);
+
     /**
      * Encabezados de las columnas del cartón de Bingo.
      */
@@ -63,29 +73,48 @@ public class Card {
 
     /**
      * Constructor principal para crear un cartón de Bingo.
-     * Inicializa las dimensiones del cartón y rellena los números según las reglas del Bingo.
+     * Inicializa las dimensiones del cartón y rellena los números según las reglas del Bingo,
+     * con el generador aleatorio del hilo actual ({@link ThreadLocalRandom}).
      * Si el cartón es 5x5, la casilla central se marca como "FREE" por defecto.
      *
      * @param rows El número de filas del cartón.
      * @param cols El número de columnas del cartón.
      */
     public Card(int rows, int cols) {
-        this.rows = rows;
-        this.cols = cols;
-        this.numbers = new int[rows][cols];
-        this.marked = new boolean[rows][cols];
-
-        // Marcar la casilla central como FREE por defecto si es un cartón de 5x5
-        if (rows == 5 && cols == 5) {
-            marked[2][2] = true; // La casilla central (fila 2, columna 2) es 'FREE'
-        }
-        fillCardNumbers(); // Llenar los números del cartón según las reglas de Bingo
+        this(rows, cols, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Constructor que genera los números del cartón con una fuente de aleatoriedad concreta.
+     * Permite, por ejemplo, que cada hilo de una simulación use su propio generador
+     * ({@link java.util.SplittableRandom}) sin contención.
+     *
+     * @param rows El número de filas del cartón.
+     * @param cols El número de columnas del cartón.
+     * @param random El generador de números aleatorios a utilizar.
+     */
+    public Card(int rows, int cols, RandomGenerator random) {
+        this(new CardStore(rows, cols, 1), random);
+    }
+
+    /**
+     * Constructor para un cartón con números ya decididos (por ejemplo, al restaurar una
+     * {@link GameSnapshot instantánea}). A diferencia de {@link #Card(List, int, int)}, no
+     * genera números al azar antes de sobrescribirlos ni necesita una lista de {@code Integer}.
+     *
+     * @param numbers Los números del cartón en orden de fila principal ({@code rows * cols} elementos).
+     * La casilla FREE de un cartón 5x5 lleva un 0.
+     * @param rows El número de filas del cartón.
+     * @param cols El número de columnas del cartón.
+     */
+    public Card(int[] numbers, int rows, int cols) {
+        this(new CardStore(rows, cols, 1), numbers);
     }
 
     /**
      * Constructor alternativo para crear un cartón con números predefinidos.
      * Útil para pruebas o escenarios donde los números no se generan aleatoriamente.
-     * Llama al constructor principal para la inicialización y luego sobrescribe los números.
+     * Si la lista no tiene `rows * cols` elementos, los números se generan al azar.
      *
      * @param numbersList Una lista de enteros que contiene los números para el cartón,
      * en orden de fila principal. Debe tener `rows * cols` elementos.
@@ -93,48 +122,116 @@ public class Card {
      * @param cols El número de columnas del cartón.
      */
     public Card(List<Integer> numbersList, int rows, int cols) {
-        this(rows, cols); // Llama al constructor principal para inicializar las matrices y la casilla FREE
-        // Sobreescribe los números generados por fillCardNumbers() si se proporcionan
-        if (numbersList != null && numbersList.size() == rows * cols) {
-            for (int i = 0; i < rows; i++) {
-                for (int j = 0; j < cols; j++) {
-                    numbers[i][j] = numbersList.get(i * cols + j);
-                }
-            }
+        this(new CardStore(rows, cols, 1), numbersList);
+    }
+
+    /**
+     * Añade los números a un almacén nuevo y crea la vista del cartón.
+     */
+    private Card(CardStore store, int[] numbers) {
+        this(store, store.append(numbers));
+    }
+
+    /**
+     * Genera los números directamente en un almacén nuevo y crea la vista del cartón.
+     */
+    private Card(CardStore store, RandomGenerator random) {
+        this(store, store.appendRandom(random));
+    }
+
+    /**
+     * Añade los números de la lista (o, si no tiene el tamaño del cartón, unos al azar)
+     * a un almacén nuevo y crea la vista del cartón.
+     */
+    private Card(CardStore store, List<Integer> numbersList) {
+        this(store, appendList(store, numbersList));
+    }
+
+    /**
+     * Crea una vista sobre un cartón ya guardado en un {@link CardStore}.
+     *
+     * @param store El almacén del cartón.
+     * @param slot La posición del cartón en el almacén.
+     */
+    Card(CardStore store, int slot) {
+        this.store = store;
+        this.slot = slot;
+    }
+
+    /**
+     * Obtiene la columna (B, I, N, G u O) a cuyo rango pertenece un número.
+     *
+     * @param number El número.
+     * @return El índice de la columna, o -1 si el número no está en ningún rango.
+     */
+    static int columnOf(int number) {
+        if (number < COLUMN_RANGES[0][0] || number > COLUMN_RANGES[COLUMN_RANGES.length - 1][1]) {
+            return -1;
+        }
+        return (number - COLUMN_RANGES[0][0]) / COLUMN_RANGE_SIZE; // Rangos contiguos de igual tamaño.
+    }
+
+    /**
+     * Obtiene el primer número del rango de una columna.
+     *
+     * @param col El índice de la columna (0 a 4).
+     * @return El número mínimo de la columna.
+     */
+    static int columnMin(int col) {
+        return COLUMN_RANGES[col][0];
+    }
+
+    /**
+     * Copia la lista de números al almacén o, si no tiene el tamaño del cartón, genera uno al azar.
+     */
+    private static int appendList(CardStore store, List<Integer> numbersList) {
+        if (numbersList == null || numbersList.size() != store.getRows() * store.getCols()) {
+            return store.appendRandom(ThreadLocalRandom.current());
         }
-        // Asegurar que la casilla FREE esté marcada (esto ya lo hace el constructor principal, pero se mantiene explícito)
-        if (rows == 5 && cols == 5) {
-            marked[2][2] = true;
+        int[] numbers = new int[numbersList.size()];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = numbersList.get(i);
         }
+        return store.append(numbers);
     }
 
     /**
-     * Rellena la matriz de números del cartón siguiendo las reglas estándar del Bingo.
+     * Genera los números de un cartón siguiendo las reglas estándar del Bingo y los escribe,
+     * un byte por casilla, en el array indicado.
      * Cada columna (B, I, N, G, O) tiene un rango específico de números (por ejemplo, B: 1-15, I: 16-30).
-     * Los números dentro de cada columna se seleccionan aleatoriamente y sin repetición.
+     * Los números dentro de cada columna se eligen con un Fisher-Yates parcial sobre el array
+     * auxiliar del hilo: solo se sortean tantos números como casillas tiene la columna, sin
+     * listas ni objetos intermedios, así que generar un cartón no crea basura.
      * La casilla central (si el cartón es 5x5) se establece como 0 para representar "FREE".
+     *
+     * @param rows El número de filas del cartón (como mucho 15).
+     * @param cols El número de columnas del cartón (como mucho 5).
+     * @param random El generador de números aleatorios a utilizar.
+     * @param out El array donde se escriben los números, en orden de fila principal.
+     * @param offset La posición de {@code out} donde empieza el cartón.
      */
-    private void fillCardNumbers() {
-        Random random = new Random();
+    static void generateNumbers(int rows, int cols, RandomGenerator random, byte[] out, int offset) {
+        int[] pool = COLUMN_POOL.get();
+        boolean hasFree = rows == 5 && cols == 5;
         for (int j = 0; j < cols; j++) { // Iterar por columnas (0 a 4 para B-I-N-G-O)
-            List<Integer> availableNumbers = new ArrayList<>();
             int min = COLUMN_RANGES[j][0];
-            int max = COLUMN_RANGES[j][1];
-            for (int k = min; k <= max; k++) {
-                availableNumbers.add(k); // Llenar la lista con todos los números posibles para esta columna
+            for (int k = 0; k < COLUMN_RANGE_SIZE; k++) {
+                pool[k] = min + k; // Todos los números posibles para esta columna
             }
-            // Barajar los números disponibles para la columna para asegurar la aleatoriedad
-            Collections.shuffle(availableNumbers, random);
-
-            // Llenar 5 números para cada columna del cartón
+            int available = COLUMN_RANGE_SIZE; // Los números ya elegidos quedan al final del array
             for (int i = 0; i < rows; i++) {
+                int cell = offset + i * cols + j;
                 // Si es un cartón 5x5, la casilla central (2,2) es "FREE"
-                if (i == 2 && j == 2 && rows == 5 && cols == 5) {
-                    numbers[i][j] = 0; // Se usa 0 para representar la casilla FREE
-                } else {
-                    // Tomar el primer número barajado y eliminarlo de la lista para evitar duplicados en la columna
-                    numbers[i][j] = availableNumbers.remove(0);
+                if (hasFree && i == 2 && j == 2) {
+                    out[cell] = 0; // Se usa 0 para representar la casilla FREE
+                    continue;
                 }
+                // Elegir uno de los disponibles y moverlo al final para no repetirlo en la columna
+                int pick = random.nextInt(available--);
+                int number = pool[pick];
+                pool[pick] = pool[available];
+                pool[available] = number;
+                out[cell] = (byte) number;
             }
         }
     }
@@ -142,24 +239,53 @@ public class Card {
     /**
      * Intenta marcar un número en el cartón si este coincide con el número llamado (ball).
      * No marca la casilla "FREE" ya que se asume que siempre está marcada.
+     * La búsqueda solo mira la columna del rango del número (ver {@link #getCellIndex(int)}).
      *
      * @param ball El número que ha sido llamado.
      * @return `true` si el número fue encontrado y marcado en el cartón, `false` en caso contrario.
      */
     public boolean markNumber(int ball) {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                // No intentar marcar la casilla FREE si aplica, ya está marcada por defecto.
-                if (i == 2 && j == 2 && rows == 5 && cols == 5) {
-                    continue;
-                }
-                if (numbers[i][j] == ball) {
-                    marked[i][j] = true; // Marcar el número si coincide
-                    return true; // Número encontrado y marcado con éxito
-                }
-            }
+        int cell = getCellIndex(ball);
+        if (cell == NO_CELL) {
+            return false; // El número no se encontró en el cartón
         }
-        return false; // El número no se encontró en el cartón
+        markCell(cell); // Marcar el número encontrado
+        return true;
+    }
+
+    /**
+     * Marca directamente una casilla a partir de su índice (`fila * getCols() + columna`).
+     * Lo utiliza el {@link BallIndex índice de bolas} del juego, que ya sabe qué casilla
+     * contiene cada bola y no necesita volver a buscarla.
+     *
+     * @param cell El índice de la casilla a marcar.
+     * @return `true` si la casilla no estaba marcada antes de esta llamada.
+     */
+    public boolean markCell(int cell) {
+        return store.markCell(slot, cell);
+    }
+
+    /**
+     * Marca de una vez varias casillas, dadas como máscara de bits (un bit por casilla, como
+     * {@link #getMarkedMask()}). La usa la restauración de una {@link GameSnapshot instantánea},
+     * que ya sabe qué casillas estaban marcadas y no necesita marcarlas bola a bola.
+     *
+     * @param mask Las casillas a marcar.
+     */
+    public void markCells(long mask) {
+        store.mark(slot, mask);
+    }
+
+    /**
+     * Obtiene el índice de la casilla (`fila * getCols() + columna`) que contiene un número.
+     * En los cartones que siguen los rangos B-I-N-G-O solo se mira la columna del rango del
+     * número, así que un número que no está se descarta tras unas pocas comparaciones.
+     *
+     * @param ball El número a buscar.
+     * @return El índice de la casilla, o -1 si el número no está en el cartón.
+     */
+    public int getCellIndex(int ball) {
+        return store.cellOf(slot, ball);
     }
 
     /**
@@ -170,7 +296,7 @@ public class Card {
      * @return El número en la posición `(row, col)`.
      */
     public int getNumber(int row, int col) {
-        return numbers[row][col];
+        return store.number(slot, row * store.getCols() + col);
     }
 
     /**
@@ -181,7 +307,7 @@ public class Card {
      * @return `true` si el número en `(row, col)` está marcado, `false` en caso contrario.
      */
     public boolean isMarked(int row, int col) {
-        return marked[row][col];
+        return (store.marks(slot) & cellMask(row, col, store.getCols())) != 0;
     }
 
     /**
@@ -190,7 +316,7 @@ public class Card {
      * @return El número de filas.
      */
     public int getRows() {
-        return rows;
+        return store.getRows();
     }
 
     /**
@@ -199,18 +325,73 @@ public class Card {
      * @return El número de columnas.
      */
     public int getCols() {
-        return cols;
+        return store.getCols();
     }
 
     /**
      * Obtiene la matriz completa que representa el estado de marcado del cartón.
+     * Se construye a partir de la máscara de marcado, así que es una copia: no refleja
+     * las marcas posteriores.
      *
      * @return Una matriz booleana donde `true` indica una casilla marcada.
      */
     public boolean[][] getMarked() {
+        int rows = getRows();
+        int cols = getCols();
+        long mask = getMarkedMask();
+        boolean[][] marked = new boolean[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                marked[i][j] = (mask & cellMask(i, j, cols)) != 0;
+            }
+        }
         return marked;
     }
 
+    /**
+     * Obtiene la máscara de bits con el estado de marcado del cartón.
+     * El bit `fila * getCols() + columna` está activo si la casilla está marcada
+     * (la casilla FREE de un cartón 5x5 aparece marcada desde el principio).
+     *
+     * @return La máscara de casillas marcadas.
+     */
+    public long getMarkedMask() {
+        return store.marks(slot);
+    }
+
+    /**
+     * Calcula la máscara de marcado que corresponde a unas bolas cantadas, a partir solo de los
+     * números del cartón, que no cambian durante la partida, y sin leer sus marcas. Así la GUI
+     * puede pintar el cartón desde el hilo de eventos mientras otro hilo lo va marcando.
+     *
+     * @param calledBalls Las bolas cantadas (un bit por número de bola).
+     * @return La máscara, con el mismo formato que {@link #getMarkedMask()}.
+     */
+    public long getMarkedMask(BitSet calledBalls) {
+        long mask = store.initialMarks();
+        int cells = getRows() * getCols();
+        for (int cell = 0; cell < cells; cell++) {
+            int number = store.number(slot, cell);
+            if (calledBalls.get(number) && store.cellOf(slot, number) == cell) {
+                mask |= 1L << cell;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Calcula el bit que representa una casilla dentro de la máscara de marcado
+     * de un cartón con `cols` columnas.
+     *
+     * @param row La fila de la casilla.
+     * @param col La columna de la casilla.
+     * @param cols El número de columnas del cartón.
+     * @return Un `long` con únicamente el bit de la casilla activo.
+     */
+    public static long cellMask(int row, int col, int cols) {
+        return 1L << (row * cols + col);
+    }
+
     /**
      * Obtiene los encabezados de columna estándar para un cartón de Bingo (B, I, N, G, O).
      * Este es un método estático ya que los encabezados son constantes para todos los cartones.
@@ -0,0 +1,243 @@
+package Core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.random.RandomGenerator;
+
+/**
+ * Clase CardLibrary
+ *
+ * Biblioteca de cartones pre-impresos, como las series de cartones numerados que se venden
+ * en las salas de Bingo. Cada cartón tiene un número de serie y se consulta directamente en
+ * un fichero mapeado en memoria, sin cargar el fichero entero: abrir la biblioteca solo lee
+ * la cabecera, así que tarda lo mismo con mil cartones que con millones.
+ *
+ * Formato: una cabecera de {@value #HEADER_SIZE} bytes (número mágico, versión, filas,
+ * columnas, número de serie del primer cartón y cantidad de cartones) seguida de los cartones
+ * en orden de serie, un byte por casilla en orden de fila principal (la casilla FREE de un
+ * cartón 5x5 lleva un 0). Como todos los cartones ocupan lo mismo, el cartón con serie
+ * {@code s} empieza en {@code cabecera + (s - primeraSerie) * casillas}: buscarlo es O(1).
+ *
+ * El fichero se mapea por regiones de {@value #REGION_CARDS} cartones, cada una la primera
+ * vez que se consulta uno de sus cartones. Leer cartones es seguro desde varios hilos.
+ *
+ * No implementa directamente un patrón de diseño GoF; es la fuente de cartones que usa la
+ * {@link Patterns.Creational.AbstractFactory.CardFactory fábrica de cartones} en modo biblioteca.
+ */
+public class CardLibrary implements Closeable {
+
+    private static final int MAGIC = 0x424C4942;       // "BLIB"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 24;          // Mágico (int), versión (short), filas y columnas (byte), primera serie y cantidad (long).
+    private static final int REGION_CARDS = 1 << 20;    // Cartones por región mapeada.
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final int rows;                             // Filas de los cartones de la biblioteca.
+    private final int cols;                             // Columnas de los cartones de la biblioteca.
+    private final int cells;                            // Bytes de cada cartón (rows * cols).
+    private final long firstSerial;                     // Número de serie del primer cartón.
+    private final long count;                           // Cantidad de cartones.
+    private final MappedByteBuffer[] regions;           // Regiones mapeadas, o null si aún no se consultaron.
+
+    private CardLibrary(FileChannel channel, int rows, int cols, long firstSerial, long count) {
+        this.channel = channel;
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = rows * cols;
+        this.firstSerial = firstSerial;
+        this.count = count;
+        this.regions = new MappedByteBuffer[(int) ((count + REGION_CARDS - 1) / REGION_CARDS)];
+    }
+
+    /**
+     * Genera una biblioteca de cartones con números al azar siguiendo las reglas estándar del
+     * Bingo y numerados correlativamente. Si el fichero ya existe, se reemplaza.
+     *
+     * @param file El fichero de la biblioteca.
+     * @param rows El número de filas de los cartones.
+     * @param cols El número de columnas de los cartones.
+     * @param firstSerial El número de serie del primer cartón.
+     * @param count La cantidad de cartones.
+     * @param random El generador de números aleatorios a utilizar.
+     * @throws IOException Si el fichero no se puede escribir.
+     */
+    public static void create(Path file, int rows, int cols, long firstSerial, long count,
+                              RandomGenerator random) throws IOException {
+        if (rows < 1 || cols < 1 || rows * cols > Long.SIZE || count < 0) {
+            throw new IllegalArgumentException("Biblioteca no válida: " + count + " cartones de " + rows + "x" + cols);
+        }
+        try (FileChannel out = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+            buffer.putInt(MAGIC).putShort(VERSION).put((byte) rows).put((byte) cols)
+                    .putLong(firstSerial).putLong(count);
+            int cells = rows * cols;
+            for (long i = 0; i < count; i++) {
+                if (buffer.remaining() < cells) {
+                    writeFully(out, buffer);
+                }
+                // Se genera directamente en el buffer de escritura.
+                Card.generateNumbers(rows, cols, random, buffer.array(), buffer.position());
+                buffer.position(buffer.position() + cells);
+            }
+            writeFully(out, buffer);
+        }
+    }
+
+    /**
+     * Escribe todo el contenido del buffer y lo deja vacío para seguir llenándolo.
+     */
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Abre una biblioteca de cartones para consultarla. Solo lee la cabecera.
+     *
+     * @param file El fichero escrito con {@link #create}.
+     * @return La biblioteca abierta.
+     * @throws IOException Si el fichero no se puede abrir o no es una biblioteca válida.
+     */
+    public static CardLibrary open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Lee la cabecera completa.
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getShort() != VERSION) {
+                throw new IOException("El fichero no es una biblioteca de cartones válida: " + file);
+            }
+            int rows = header.get();
+            int cols = header.get();
+            long firstSerial = header.getLong();
+            long count = header.getLong();
+            if (rows < 1 || cols < 1 || rows * cols > Long.SIZE || count < 0
+                    || channel.size() != HEADER_SIZE + count * rows * cols) {
+                throw new IOException("Biblioteca de cartones dañada o incompleta: " + file);
+            }
+            return new CardLibrary(channel, rows, cols, firstSerial, count);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Obtiene el cartón con un número de serie, con su propio almacén.
+     *
+     * @param serial El número de serie del cartón.
+     * @return Un cartón nuevo, sin marcar, con los números impresos.
+     */
+    public Card getCard(long serial) {
+        return addTo(new CardStore(rows, cols, 1), serial);
+    }
+
+    /**
+     * Copia el cartón con un número de serie en un {@link CardStore} y devuelve su vista.
+     * Los bytes se copian directamente de la región mapeada al almacén.
+     *
+     * @param store El almacén, con las mismas dimensiones que los cartones de la biblioteca.
+     * @param serial El número de serie del cartón.
+     * @return La vista del cartón añadido al almacén, sin marcar.
+     */
+    public Card addTo(CardStore store, long serial) {
+        if (store.getRows() != rows || store.getCols() != cols) {
+            throw new IllegalArgumentException("El almacén es de cartones " + store.getRows() + "x" + store.getCols()
+                    + " y la biblioteca de " + rows + "x" + cols);
+        }
+        if (!contains(serial)) {
+            throw new IndexOutOfBoundsException("No hay ningún cartón con el número de serie " + serial);
+        }
+        long index = serial - firstSerial;
+        ByteBuffer region = region((int) (index / REGION_CARDS));
+        return new Card(store, store.append(region, (int) (index % REGION_CARDS) * cells));
+    }
+
+    /**
+     * Indica si la biblioteca tiene un cartón con ese número de serie.
+     *
+     * @param serial El número de serie.
+     * @return `true` si el número de serie está en la biblioteca.
+     */
+    public boolean contains(long serial) {
+        return serial >= firstSerial && serial - firstSerial < count;
+    }
+
+    /**
+     * Obtiene el número de serie del primer cartón.
+     *
+     * @return El primer número de serie.
+     */
+    public long getFirstSerial() {
+        return firstSerial;
+    }
+
+    /**
+     * Obtiene la cantidad de cartones de la biblioteca.
+     *
+     * @return El número de cartones.
+     */
+    public long getCardCount() {
+        return count;
+    }
+
+    /**
+     * Obtiene el número de filas de los cartones.
+     *
+     * @return El número de filas.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Obtiene el número de columnas de los cartones.
+     *
+     * @return El número de columnas.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Obtiene una región mapeada, mapeándola la primera vez que se consulta.
+     */
+    private synchronized ByteBuffer region(int index) {
+        MappedByteBuffer region = regions[index];
+        if (region == null) {
+            long start = HEADER_SIZE + (long) index * REGION_CARDS * cells;
+            long size = Math.min((long) REGION_CARDS, count - (long) index * REGION_CARDS) * cells;
+            try {
+                region = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            regions[index] = region;
+        }
+        return region;
+    }
+
+    /**
+     * Cierra el fichero de la biblioteca. Los cartones ya obtenidos siguen siendo válidos,
+     * porque sus números se copiaron a su almacén.
+     *
+     * @throws IOException Si el fichero no se puede cerrar.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,361 @@
+package Core;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Clase CardStore
+ *
+ * Almacén compacto de cartones de unas mismas dimensiones. En lugar de que cada {@link Card}
+ * tenga sus propias matrices, todos los números viven en un único {@code byte[]} (un byte por
+ * casilla, ya que las bolas van de 1 a 75) y todas las marcas en un único {@code long[]}
+ * (una máscara por cartón). Un cartón estándar 5x5 ocupa así 25 bytes de números y 8 de marcas,
+ * y un {@link Card} es solo una vista ligera (almacén y posición) sobre esos arrays, de modo que
+ * millones de cartones no multiplican los objetos ni la presión sobre el recolector de basura.
+ *
+ * Los cartones se añaden durante el registro de jugadores; el almacén no es seguro para añadir
+ * cartones desde varios hilos a la vez.
+ *
+ * No implementa directamente un patrón de diseño GoF; es la representación interna de los
+ * {@link Card cartones} del Core.
+ */
+public final class CardStore {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Casillas máximas de un cartón: la máscara de marcado es un {@code long}. */
+    public static final int MAX_CELLS = Long.SIZE;
+
+    /** Número máximo que admite una casilla: cada número se guarda en un byte. */
+    public static final int MAX_NUMBER = 255;
+
+    /**
+     * Columna del rango de cada número (de 0 a 255), o -1 si no pertenece a ninguna, y
+     * desplazamiento de sus 4 bits en el {@code long} de su columna del índice inverso.
+     * Precalculados para que la búsqueda de una bola sean dos lecturas de tabla.
+     */
+    private static final byte[] COLUMN_OF_NUMBER = new byte[256];
+    private static final byte[] SHIFT_OF_NUMBER = new byte[256];
+
+    /**
+     * Entrada del índice inverso de un cartón que no sigue los rangos B-I-N-G-O: solo el bit de
+     * signo, que ninguna entrada normal usa (15 números por 4 bits ocupan 60 bits).
+     */
+    private static final long UNINDEXED = Long.MIN_VALUE;
+
+    static {
+        for (int number = 0; number < COLUMN_OF_NUMBER.length; number++) {
+            int col = Card.columnOf(number);
+            COLUMN_OF_NUMBER[number] = (byte) col;
+            SHIFT_OF_NUMBER[number] = (byte) ((col < 0) ? 0 : 4 * (number - Card.columnMin(col)));
+        }
+    }
+
+    private final int rows;          // Filas de todos los cartones del almacén.
+    private final int cols;          // Columnas de todos los cartones del almacén.
+    private final int cells;         // Casillas por cartón (rows * cols).
+    private byte[] numbers;          // Números de todos los cartones, 'cells' bytes por cartón.
+    private long[] marks;            // Máscara de casillas marcadas de cada cartón.
+    private int size;                // Cartones almacenados.
+    private long[] rowByNumber;      // Índice inverso: un long por columna de cada cartón, 4 bits (fila + 1) por número del rango.
+
+    /**
+     * Crea un almacén vacío para cartones de las dimensiones indicadas.
+     *
+     * @param rows El número de filas de los cartones.
+     * @param cols El número de columnas de los cartones.
+     */
+    public CardStore(int rows, int cols) {
+        this(rows, cols, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Crea un almacén vacío con espacio reservado para una cantidad de cartones.
+     *
+     * @param rows El número de filas de los cartones.
+     * @param cols El número de columnas de los cartones.
+     * @param capacity Los cartones para los que se reserva espacio (el almacén crece si hacen falta más).
+     */
+    public CardStore(int rows, int cols, int capacity) {
+        if (rows < 1 || cols < 1 || rows * cols > MAX_CELLS) {
+            throw new IllegalArgumentException("Un cartón admite de 1 a " + MAX_CELLS + " casillas: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = rows * cols;
+        this.numbers = new byte[Math.max(1, capacity) * cells];
+        this.marks = new long[Math.max(1, capacity)];
+        boolean columnRanges = cols <= 5 && rows < 16; // Una columna por rango y la fila cabe en 4 bits.
+        this.rowByNumber = columnRanges ? new long[Math.max(1, capacity) * cols] : null;
+    }
+
+    /**
+     * Añade un cartón con los números indicados.
+     *
+     * @param cardNumbers Los números en orden de fila principal ({@code filas * columnas} elementos
+     * distintos, de 0 a 255). La casilla FREE de un cartón 5x5 lleva un 0.
+     * @return La vista {@link Card} del cartón añadido.
+     * @throws IllegalArgumentException Si la cantidad no coincide, algún número está fuera de rango
+     * o hay números repetidos.
+     */
+    public Card add(int[] cardNumbers) {
+        return new Card(this, append(cardNumbers));
+    }
+
+    /**
+     * Añade un cartón con números generados según las reglas estándar del Bingo.
+     *
+     * @param random El generador de números aleatorios a utilizar.
+     * @return La vista {@link Card} del cartón añadido.
+     */
+    public Card add(RandomGenerator random) {
+        return new Card(this, appendRandom(random));
+    }
+
+    /**
+     * Obtiene una vista del cartón guardado en una posición. Todas las vistas de una misma
+     * posición comparten los números y las marcas.
+     *
+     * @param slot La posición del cartón, entre 0 y {@link #size()} - 1.
+     * @return La vista del cartón.
+     */
+    public Card get(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("Cartón " + slot + " fuera del almacén (tamaño " + size + ")");
+        }
+        return new Card(this, slot);
+    }
+
+    /**
+     * Obtiene la cantidad de cartones almacenados.
+     *
+     * @return El número de cartones.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Obtiene el número de filas de los cartones del almacén.
+     *
+     * @return El número de filas.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Obtiene el número de columnas de los cartones del almacén.
+     *
+     * @return El número de columnas.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Copia los números de un cartón al final del almacén y devuelve su posición.
+     * La casilla FREE de un cartón 5x5 queda marcada desde el principio. Se validan antes de
+     * copiar nada, así que un cartón rechazado no deja rastro en el almacén.
+     */
+    int append(int[] cardNumbers) {
+        if (cardNumbers.length != cells) {
+            throw new IllegalArgumentException("Se esperaban " + cells + " números: " + cardNumbers.length);
+        }
+        long[] seen = new long[(MAX_NUMBER + 1) / Long.SIZE]; // Un bit por número posible.
+        for (int number : cardNumbers) {
+            if (number < 0 || number > MAX_NUMBER) {
+                throw new IllegalArgumentException("Número fuera de rango (0 a " + MAX_NUMBER + "): " + number);
+            }
+            long bit = 1L << number;
+            if ((seen[number >>> 6] & bit) != 0) {
+                throw new IllegalArgumentException("Número repetido en el cartón: " + number);
+            }
+            seen[number >>> 6] |= bit;
+        }
+        ensureCapacity();
+        int base = size * cells;
+        for (int cell = 0; cell < cells; cell++) {
+            numbers[base + cell] = (byte) cardNumbers[cell];
+        }
+        return finishAppend();
+    }
+
+    /**
+     * Genera un cartón directamente al final del array de números, sin arrays intermedios,
+     * y devuelve su posición.
+     */
+    int appendRandom(RandomGenerator random) {
+        ensureCapacity();
+        Card.generateNumbers(rows, cols, random, numbers, size * cells);
+        return finishAppend();
+    }
+
+    /**
+     * Copia al final del almacén un cartón ya codificado (un byte por casilla) que empieza en
+     * la posición {@code offset} del buffer, sin pasar por un {@code int[]} intermedio.
+     * La usa la {@link CardLibrary biblioteca de cartones} al asignar cartones impresos.
+     */
+    int append(ByteBuffer source, int offset) {
+        ensureCapacity();
+        source.get(offset, numbers, size * cells, cells);
+        return finishAppend();
+    }
+
+    /**
+     * Reserva espacio para al menos {@code capacity} cartones, para añadir un lote conocido
+     * (por ejemplo, al restaurar una {@link GameSnapshot instantánea}) sin ir duplicando los arrays.
+     */
+    void reserve(int capacity) {
+        if (capacity > marks.length) {
+            numbers = Arrays.copyOf(numbers, capacity * cells);
+            marks = Arrays.copyOf(marks, capacity);
+            if (rowByNumber != null) {
+                rowByNumber = Arrays.copyOf(rowByNumber, capacity * cols);
+            }
+        }
+    }
+
+    /**
+     * Duplica la capacidad de los arrays si no cabe otro cartón.
+     */
+    private void ensureCapacity() {
+        if (size == marks.length) {
+            int capacity = marks.length * 2;
+            numbers = Arrays.copyOf(numbers, capacity * cells);
+            marks = Arrays.copyOf(marks, capacity);
+            if (rowByNumber != null) {
+                rowByNumber = Arrays.copyOf(rowByNumber, capacity * cols);
+            }
+        }
+    }
+
+    /**
+     * Inicializa las marcas y el índice inverso del cartón recién copiado y devuelve su posición.
+     */
+    private int finishAppend() {
+        marks[size] = initialMarks();
+        if (rowByNumber != null) {
+            indexColumns();
+        }
+        return size++;
+    }
+
+    /**
+     * Llena el índice inverso del cartón recién copiado: para cada columna, un {@code long} con
+     * 4 bits por número de su rango de 15, que guardan la fila del número + 1 (0 si no está).
+     * Si el cartón no sigue los rangos B-I-N-G-O (un cartón personalizado de
+     * {@code CardFactory.createCard}) o repite un número de su columna, sus entradas quedan como
+     * {@link #UNINDEXED} y solo ese cartón se busca recorriéndolo; los demás siguen indexados.
+     */
+    private void indexColumns() {
+        int base = size * cells;
+        int free = hasFreeCell() ? freeCell() : -1;
+        int first = size * cols;
+        Arrays.fill(rowByNumber, first, first + cols, 0L);
+        for (int cell = 0; cell < cells; cell++) {
+            int number = numbers[base + cell] & 0xFF;
+            if (cell == free && number == 0) {
+                continue;
+            }
+            int col = cell % cols;
+            int shift = SHIFT_OF_NUMBER[number];
+            if (COLUMN_OF_NUMBER[number] != col || ((rowByNumber[first + col] >>> shift) & 0xF) != 0) {
+                Arrays.fill(rowByNumber, first, first + cols, UNINDEXED);
+                return;
+            }
+            rowByNumber[first + col] |= (long) (cell / cols + 1) << shift;
+        }
+    }
+
+    /**
+     * Indica si los cartones tienen la casilla FREE central (los cartones 5x5).
+     */
+    boolean hasFreeCell() {
+        return rows == 5 && cols == 5;
+    }
+
+    /**
+     * Máscara con la que empieza cada cartón: solo la casilla FREE, si la tiene.
+     */
+    long initialMarks() {
+        return hasFreeCell() ? 1L << freeCell() : 0L;
+    }
+
+    /**
+     * Índice de la casilla FREE central de un cartón 5x5.
+     */
+    private int freeCell() {
+        return 2 * cols + 2;
+    }
+
+    /**
+     * Obtiene el número de una casilla de un cartón.
+     */
+    int number(int slot, int cell) {
+        return numbers[slot * cells + cell] & 0xFF;
+    }
+
+    /**
+     * Obtiene la máscara de casillas marcadas de un cartón.
+     */
+    long marks(int slot) {
+        return marks[slot];
+    }
+
+    /**
+     * Marca las casillas de la máscara en un cartón.
+     */
+    void mark(int slot, long mask) {
+        marks[slot] |= mask;
+    }
+
+    /**
+     * Marca una casilla de un cartón con una sola lectura y escritura del array.
+     *
+     * @return `true` si la casilla no estaba marcada.
+     */
+    boolean markCell(int slot, int cell) {
+        long before = marks[slot];
+        long bit = 1L << cell;
+        marks[slot] = before | bit;
+        return (before & bit) == 0;
+    }
+
+    /**
+     * Busca la casilla de un cartón que contiene un número (sin contar la casilla FREE).
+     * Si el cartón sigue los rangos B-I-N-G-O, el número solo puede estar en la columna de su
+     * rango y la fila sale directamente del índice inverso, sin recorrer nada (un número que no
+     * está se descarta igual de rápido). Solo los cartones sin índice (personalizados, o de
+     * almacenes con más de 5 columnas o 15 filas) se recorren enteros.
+     *
+     * @return El índice de la casilla, o -1 si el número no está en el cartón.
+     */
+    int cellOf(int slot, int ball) {
+        if (ball < 0 || ball > 255) {
+            return -1;
+        }
+        if (rowByNumber != null) {
+            int col = COLUMN_OF_NUMBER[ball];
+            boolean inRange = col >= 0 && col < cols;
+            long entry = rowByNumber[slot * cols + (inRange ? col : 0)];
+            if (entry != UNINDEXED) {
+                if (!inRange) {
+                    return -1;
+                }
+                int row = (int) (entry >>> SHIFT_OF_NUMBER[ball]) & 0xF;
+                return (row == 0) ? -1 : (row - 1) * cols + col;
+            }
+        }
+        byte target = (byte) ball;
+        int base = slot * cells;
+        int free = hasFreeCell() ? freeCell() : -1;
+        for (int cell = 0; cell < cells; cell++) {
+            if (numbers[base + cell] == target && cell != free) {
+                return cell;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,99 @@
+package Core;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Interfaz DrawSequence
+ *
+ * Secuencia de extracción de bolas de un bombo. Define el orden en que se cantan las bolas
+ * y conserva el historial de las ya cantadas, trabajando siempre con enteros primitivos para
+ * que cantar una bola sea O(1) y no genere objetos.
+ *
+ * La usan tanto el {@link Game juego} como el {@link BallCaller bolillero}.
+ */
+public interface DrawSequence {
+
+    /**
+     * Indica si aún quedan bolas por cantar.
+     *
+     * @return true si quedan bolas en el bombo.
+     */
+    boolean hasNext();
+
+    /**
+     * Canta la siguiente bola.
+     *
+     * @return El número de la bola cantada.
+     * @throws java.util.NoSuchElementException si no quedan bolas.
+     */
+    int next();
+
+    /**
+     * Obtiene la cantidad de bolas que quedan en el bombo.
+     *
+     * @return El número de bolas restantes.
+     */
+    int remaining();
+
+    /**
+     * Obtiene la cantidad de bolas cantadas desde el último reinicio.
+     *
+     * @return El número de bolas cantadas.
+     */
+    int drawnCount();
+
+    /**
+     * Obtiene la bola cantada en una posición del historial.
+     *
+     * @param index La posición, entre 0 y {@link #drawnCount()} - 1.
+     * @return El número de la bola cantada en esa posición.
+     */
+    int drawnAt(int index);
+
+    /**
+     * Obtiene una copia del historial de bolas cantadas como array primitivo.
+     *
+     * @return Un array nuevo con las bolas cantadas, en orden.
+     */
+    default int[] drawnArray() {
+        int[] drawn = new int[drawnCount()];
+        for (int i = 0; i < drawn.length; i++) {
+            drawn[i] = drawnAt(i);
+        }
+        return drawn;
+    }
+
+    /**
+     * Obtiene una copia de todas las bolas en el orden de extracción: primero las ya cantadas
+     * y después las que quedan en el bombo, en el orden en que se cantarán.
+     *
+     * @return Un array nuevo con todas las bolas de la secuencia.
+     */
+    int[] toArray();
+
+    /**
+     * Obtiene una vista de solo lectura del historial de bolas cantadas.
+     * La vista refleja las bolas que se canten después de obtenerla.
+     *
+     * @return Una lista inmutable con las bolas cantadas, en orden.
+     */
+    default List<Integer> drawnView() {
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                return drawnAt(index);
+            }
+
+            @Override
+            public int size() {
+                return drawnCount();
+            }
+        };
+    }
+
+    /**
+     * Devuelve todas las bolas al bombo y las vuelve a mezclar.
+     */
+    void reset();
+}
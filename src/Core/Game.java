@@ -9,12 +9,17 @@ import Patterns.Behavioral.Strategy.LShapeWinStrategy;
 import Patterns.Behavioral.Strategy.VerticalWinStrategy;
 import Patterns.Behavioral.Strategy.WinStrategy; // Interfaz Strategy
 import Patterns.Behavioral.Strategy.XShapeWinStrategy;
+import Patterns.Creational.AbstractFactory.BallCallerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;     
 import java.util.List;
-import java.util.Random;     
 import java.util.Collections; 
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Clase Game
@@ -23,12 +28,20 @@ import java.util.Collections;
  * Gestiona a los jugadores, el flujo de las bolas (cantadas y disponibles),
  * y la estrategia de victoria actual.
  *
- * Implementa el patrón Observer como 'Sujeto' (Subject), notificando a los jugadores
- * (que actúan como 'Observadores') cada vez que se canta una nueva bola.
+ * Implementa el patrón Observer como 'Sujeto' (Subject), notificando a los observadores
+ * registrados cada vez que se canta una nueva bola. Los cartones de los jugadores, en cambio,
+ * se marcan a través de un índice invertido ({@link BallIndex}) para no recorrer todos los
+ * cartones en cada bola.
  * También utiliza el patrón Strategy para definir dinámicamente la condición de victoria.
  *
+ * Una partida creada con una semilla ({@link #Game(long)}) es reproducible: de la semilla se
+ * derivan, con un {@link SplittableRandom}, el orden de extracción de las bolas, la elección de
+ * la estrategia y los números de todos los cartones (a través de {@link #getCardRandom()}).
+ * Repetir la partida con la misma semilla, los mismos jugadores y la misma cantidad de cartones
+ * reproduce exactamente los mismos cartones, bolas y ganadores.
+ *
  * Roles en los patrones de diseño:
- * - Subject (Observer): Mantiene una lista de jugadores (observadores) y los notifica de
+ * - Subject (Observer): Mantiene una lista de observadores y los notifica de
  * las bolas cantadas.
  * - Context (Strategy): La clase Game es el contexto que mantiene una referencia a una
  * `WinStrategy` y delega la lógica de comprobación de victoria a esta estrategia.
@@ -36,44 +49,118 @@ import java.util.Collections;
 public class Game extends Patterns.Behavioral.Observer.Subject {
 
     private List<Player> players;             // Lista de jugadores en el juego.
-    private List<Integer> availableBalls;     // Bolas que aún no han sido cantadas.
-    private List<Integer> calledBalls;        // Bolas que ya han sido cantadas.
-    private BallCaller ballCaller;            // Instancia del bolillero (Singleton).
+    private DrawSequence drawSequence;        // Orden de extracción de las bolas y su historial.
+    private BallIndex ballIndex;              // Índice invertido bola -> cartones que la contienen.
 
     private WinStrategy winStrategy;          // La estrategia de victoria actual (patrón Strategy).
+    private WinTracker winTracker;            // Detector incremental de victorias para la estrategia actual.
+    private final RandomGenerator random;     // Generador usado para mezclar las bolas y elegir estrategia.
+    private final RandomGenerator cardRandom; // Generador para los números de los cartones de esta partida.
+    private final OptionalLong seed;          // Semilla de la que se derivan los generadores, si la hay.
+    private GameJournal journal;              // Diario donde se registran los eventos de la partida, si lo hay.
+    private final CardStore cardStore = new CardStore(5, 5); // Almacén compacto de los cartones de la partida.
+    private volatile int publishedDrawCount;  // Bolas cantadas en rondas ya completadas, visible desde otros hilos.
 
     /**
      * Constructor de la clase Game.
      * Inicializa las listas de jugadores, bolas disponibles y bolas cantadas.
      * Prepara el conjunto inicial de bolas para el juego y las mezcla.
+     * La partida recibe una semilla nueva al azar, de modo que siempre se puede reproducir.
      */
     public Game() {
-        this.players = new ArrayList<>();
-        this.availableBalls = new ArrayList<>();
-        // Inicializa 'availableBalls' con todas las bolas del rango de Bingo (1 a 75).
-        for (int i = 1; i <= 75; i++) {
-            availableBalls.add(i);
-        }
-        Collections.shuffle(availableBalls); // Mezcla las bolas para que el orden sea aleatorio.
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Constructor de la clase Game reproducible a partir de una semilla.
+     * Del generador raíz se separan dos flujos independientes: uno para las bolas y la estrategia
+     * y otro para los cartones, de modo que la cantidad de cartones no altera el orden de las bolas.
+     *
+     * @param seed La semilla de la partida.
+     */
+    public Game(long seed) {
+        this(new SplittableRandom(seed), seed);
+    }
+
+    /**
+     * Separa los flujos de la partida del generador raíz, siempre en el mismo orden.
+     */
+    private Game(SplittableRandom root, long seed) {
+        this(root.split(), root.split(), OptionalLong.of(seed));
+    }
+
+    /**
+     * Constructor de la clase Game con una fuente de aleatoriedad concreta, usada para
+     * mezclar las bolas, para elegir la estrategia de victoria al azar y para los cartones.
+     * La partida no tiene semilla.
+     *
+     * @param random El generador de números aleatorios a utilizar.
+     */
+    public Game(RandomGenerator random) {
+        this(random, random, OptionalLong.empty());
+    }
 
-        this.calledBalls = new ArrayList<>(); // Inicializa la lista de bolas cantadas vacía.
+    /**
+     * Constructor de la clase Game con un orden de extracción ya decidido, para reconstruir una
+     * partida (por ejemplo, desde un {@link GameJournal diario}). Si se indica la semilla original,
+     * los generadores de cartones y estrategia se derivan de ella como en {@link #Game(long)}.
+     *
+     * @param drawSequence La secuencia de bolas a cantar (rango de 1 a 75).
+     * @param seed La semilla de la partida original, o vacío si no tenía.
+     */
+    public Game(DrawSequence drawSequence, OptionalLong seed) {
+        this(drawSequence, seed.isPresent() ? new SplittableRandom(seed.getAsLong()) : new SplittableRandom(), seed);
+    }
+
+    /**
+     * Separa los flujos de la partida del generador raíz, con una secuencia de bolas dada.
+     */
+    private Game(DrawSequence drawSequence, SplittableRandom root, OptionalLong seed) {
+        this(drawSequence, root.split(), root.split(), seed);
+    }
 
-        // Obtiene la instancia única de BallCaller (Singleton).
-        // Si BallCaller ya tiene su propia lista de bolas y lógica de extracción,
-        // se podría sincronizar aquí o dejar que BallCaller sea el único maestro de las bolas.
-        // En este diseño, 'Game' mantiene 'availableBalls' como su propia fuente de verdad
-        // para la lógica de juego y 'BallCaller' notifica lo que 'Game' le indica.
-        this.ballCaller = BallCaller.getInstance(1, 75); // Se inicializa con el rango de 1 a 75.
+    /**
+     * Constructor con generadores: todas las bolas del rango de Bingo (1 a 75), mezcladas de antemano
+     * por la {@link BallCallerFactory fábrica}.
+     */
+    private Game(RandomGenerator random, RandomGenerator cardRandom, OptionalLong seed) {
+        this(new BallCallerFactory().createStandardDrawSequence(random), random, cardRandom, seed);
+    }
+
+    /**
+     * Constructor común: inicializa la partida con su secuencia de bolas y sus generadores.
+     *
+     * @param drawSequence La secuencia de bolas; las cantadas son su prefijo.
+     * @param random El generador para la estrategia.
+     * @param cardRandom El generador para los cartones.
+     * @param seed La semilla de la que se derivan, si la hay.
+     */
+    private Game(DrawSequence drawSequence, RandomGenerator random, RandomGenerator cardRandom, OptionalLong seed) {
+        this.random = random;
+        this.cardRandom = cardRandom;
+        this.seed = seed;
+        this.players = new ArrayList<>();
+        this.drawSequence = drawSequence;
+        this.ballIndex = new BallIndex(75);   // Índice de cartones por bola, se llena al registrar jugadores.
     }
 
     /**
-     * Añade un jugador al juego y lo registra como observador.
+     * Añade un jugador al juego e indexa sus cartones.
+     * El jugador no se registra como observador: las bolas cantadas se entregan directamente
+     * a los cartones que las contienen a través del {@link BallIndex}. Por eso el jugador
+     * debe tener ya asignados sus cartones al ser añadido.
      *
      * @param player El objeto {@link Player} a añadir.
      */
     public void addPlayer(Player player) {
-        players.add(player); // Añade el jugador a la lista del juego.
-        attach(player);      // Registra al jugador como observador para recibir notificaciones de bolas cantadas.
+        players.add(player);          // Añade el jugador a la lista del juego.
+        ballIndex.addPlayer(player);  // Indexa sus cartones para marcar cada bola solo donde aparece.
+        if (winTracker != null) {
+            winTracker.syncCards();   // Empieza a seguir los patrones de los nuevos cartones.
+        }
+        if (journal != null) {
+            journal.recordPlayer(players.size() - 1, player); // Registra el jugador y sus cartones.
+        }
     }
 
     /**
@@ -85,6 +172,37 @@ public class Game extends Patterns.Behavioral.Observer.Subject {
         return players;
     }
 
+    /**
+     * Obtiene la semilla de la partida, con la que se puede reproducir.
+     *
+     * @return La semilla, o vacío si la partida se creó con un generador concreto.
+     */
+    public OptionalLong getSeed() {
+        return seed;
+    }
+
+    /**
+     * Obtiene el generador con el que se deben crear los cartones de esta partida
+     * (por ejemplo, pasándolo a una {@link Patterns.Creational.AbstractFactory.CardFactory}).
+     * En una partida con semilla es un flujo derivado de ella, independiente del de las bolas.
+     *
+     * @return El generador para los cartones.
+     */
+    public RandomGenerator getCardRandom() {
+        return cardRandom;
+    }
+
+    /**
+     * Obtiene el almacén compacto (cartones 5x5) en el que se deben guardar los cartones de esta
+     * partida, por ejemplo pasándolo a una {@link Patterns.Creational.AbstractFactory.CardFactory}
+     * junto con {@link #getCardRandom()}. Así todos los cartones comparten unos pocos arrays.
+     *
+     * @return El almacén de cartones de la partida.
+     */
+    public CardStore getCardStore() {
+        return cardStore;
+    }
+
     /**
      * Obtiene la estrategia de victoria actualmente seleccionada para el juego.
      *
@@ -100,25 +218,98 @@ public class Game extends Patterns.Behavioral.Observer.Subject {
      * @return Una lista de números enteros que representan las bolas cantadas.
      */
     public List<Integer> getCalledBalls() {
-        return Collections.unmodifiableList(calledBalls); // Devuelve una copia inmutable.
+        return drawSequence.drawnView(); // Vista inmutable sobre el historial de la secuencia.
+    }
+
+    /**
+     * Obtiene una copia de las bolas cantadas como array de enteros primitivos.
+     *
+     * @return Un array nuevo con las bolas cantadas, en orden.
+     */
+    public int[] getCalledBallsArray() {
+        return drawSequence.drawnArray();
+    }
+
+    /**
+     * Obtiene la cantidad de bolas de las rondas ya completadas (bola cantada y cartones marcados).
+     * Se puede leer desde cualquier hilo; lo usa {@link GameSnapshot} para tomar instantáneas
+     * sin detener el bucle de rondas.
+     *
+     * @return El número de bolas cantadas publicadas.
+     */
+    int getPublishedDrawCount() {
+        return publishedDrawCount;
+    }
+
+    /**
+     * Obtiene una copia del orden de extracción completo: las bolas cantadas y las que quedan.
+     *
+     * @return Un array nuevo con todas las bolas en el orden en que se cantan.
+     */
+    int[] getDrawOrder() {
+        return drawSequence.toArray();
+    }
+
+    /**
+     * Canta de una vez las próximas {@code count} bolas de la secuencia y fija la estrategia, como
+     * al restaurar una {@link GameSnapshot instantánea}. El resultado es el mismo que jugar esas
+     * rondas (marcas, ganadores y su orden), pero las bolas se marcan a través del {@link BallIndex}
+     * sin seguir las victorias, y el {@link WinTracker} se construye una sola vez al final, contando
+     * las marcas ya puestas. No se notifica a los observadores ni al diario.
+     *
+     * @param count La cantidad de bolas a cantar.
+     * @param strategy La estrategia de victoria, o {@code null} si la partida no tenía.
+     */
+    void restoreDrawnBalls(int count, WinStrategy strategy) {
+        int[] roundOfBall = new int[76]; // Ronda en la que se cantó cada bola (1 a 75), o -1.
+        Arrays.fill(roundOfBall, -1);
+        for (int round = 0; round < count && drawSequence.hasNext(); round++) {
+            int ball = drawSequence.next();
+            roundOfBall[ball] = round;
+            ballIndex.markBall(ball); // Solo los cartones que contienen la bola.
+        }
+        winStrategy = strategy;
+        winTracker = null;
+        if (strategy != null) {
+            winTracker = new WinTracker(strategy, ballIndex); // Cuenta los patrones con las marcas ya puestas.
+            winTracker.orderWinnersByRound(roundOfBall);
+        }
+        publishedDrawCount = drawSequence.drawnCount();
+    }
+
+    /**
+     * Toma una instantánea de la partida con la que se puede reanudar más tarde.
+     * Se puede llamar desde otro hilo mientras se juegan las rondas.
+     *
+     * @return La instantánea de la partida.
+     */
+    public GameSnapshot snapshot() {
+        return GameSnapshot.capture(this);
     }
 
     /**
      * Juega una ronda del juego en el contexto de una GUI.
-     * Canta una nueva bola, la añade a las bolas cantadas y notifica a los observadores.
+     * Canta una nueva bola, la añade a las bolas cantadas, la marca en los cartones que la
+     * contienen (a través del {@link BallIndex}) y notifica a los observadores restantes.
      *
      * @return La bola cantada en esta ronda, o -1 si no quedan más bolas para cantar.
      */
     public int playRoundGUI() {
-        if (availableBalls.isEmpty()) { // Comprueba si aún quedan bolas disponibles.
+        if (!drawSequence.hasNext()) { // Comprueba si aún quedan bolas disponibles.
             return -1; // Retorna -1 si no hay más bolas.
         }
 
-        // Obtiene la siguiente bola de la lista de disponibles y la elimina.
-        int calledBall = availableBalls.remove(0);
+        // Obtiene la siguiente bola de la secuencia; queda registrada en su historial.
+        int calledBall = drawSequence.next();
 
-        calledBalls.add(calledBall);     // Añade la bola a la lista de bolas ya cantadas.
-        notifyObservers(calledBall);     // Notifica a todos los observadores (jugadores) la nueva bola cantada.
+        int winnersBefore = (winTracker != null) ? winTracker.getWinnerCount() : 0;
+        ballIndex.markBall(calledBall, winTracker); // Marca la bola solo en los cartones que la contienen.
+        if (journal != null) {
+            journal.recordBall(calledBall);
+            recordNewWinners(winnersBefore);
+        }
+        publishedDrawCount = drawSequence.drawnCount(); // La ronda está completa: se publica para las instantáneas.
+        notifyObservers(calledBall);     // Notifica a los demás observadores registrados (si los hay).
 
         return calledBall; // Retorna la bola que acaba de ser cantada.
     }
@@ -141,17 +332,147 @@ public class Game extends Patterns.Behavioral.Observer.Subject {
      * Esto demuestra la flexibilidad del patrón Strategy.
      */
     public void randomlyChooseWinStrategy() {
-        // Lista de todas las implementaciones de WinStrategy.
-        List<WinStrategy> strategies = Arrays.asList(
+        List<WinStrategy> strategies = availableWinStrategies();
+        // Selecciona una estrategia aleatoria de la lista.
+        setWinStrategy(strategies.get(random.nextInt(strategies.size())));
+    }
+
+    /**
+     * Crea una instancia de cada una de las estrategias de victoria disponibles en el juego.
+     *
+     * @return Una lista nueva con todas las implementaciones de {@link WinStrategy}.
+     */
+    public static List<WinStrategy> availableWinStrategies() {
+        return Arrays.asList(
                 new HorizontalWinStrategy(),
                 new VerticalWinStrategy(),
                 new DiagonalWinStrategy(),
                 new LShapeWinStrategy(),
                 new XShapeWinStrategy()
         );
-        Random random = new Random();
-        // Selecciona una estrategia aleatoria de la lista.
-        winStrategy = strategies.get(random.nextInt(strategies.size()));
+    }
+
+    /**
+     * Busca por nombre una de las estrategias de victoria disponibles.
+     *
+     * @param name El nombre de la estrategia ({@link WinStrategy#getName()}).
+     * @return Una instancia nueva de la estrategia, o {@code null} si no hay ninguna con ese nombre.
+     */
+    public static WinStrategy findWinStrategy(String name) {
+        for (WinStrategy strategy : availableWinStrategies()) {
+            if (strategy.getName().equals(name)) {
+                return strategy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Establece la estrategia de victoria del juego y prepara el detector incremental
+     * de victorias ({@link WinTracker}) para todos los cartones registrados.
+     *
+     * @param winStrategy La {@link WinStrategy} a utilizar.
+     */
+    public void setWinStrategy(WinStrategy winStrategy) {
+        this.winStrategy = winStrategy;
+        this.winTracker = (winStrategy != null) ? new WinTracker(winStrategy, ballIndex) : null;
+        if (journal != null && winStrategy != null) {
+            journal.recordStrategy(winStrategy.getName());
+        }
+    }
+
+    /**
+     * Conecta un diario a la partida. Primero se registra el estado que la partida ya tiene
+     * (creación, jugadores y cartones, estrategia y bolas cantadas) y, a partir de ahí, cada
+     * evento nuevo se añade al diario en cuanto ocurre.
+     *
+     * @param journal El diario donde registrar la partida.
+     */
+    public void attachJournal(GameJournal journal) {
+        journal.recordGameCreated(seed);
+        for (int i = 0; i < players.size(); i++) {
+            journal.recordPlayer(i, players.get(i));
+        }
+        if (winStrategy != null) {
+            journal.recordStrategy(winStrategy.getName());
+        }
+        for (int i = 0; i < drawSequence.drawnCount(); i++) {
+            journal.recordBall(drawSequence.drawnAt(i));
+        }
+        this.journal = journal;
+        recordNewWinners(0);
+    }
+
+    /**
+     * Conecta un diario a una partida reanudada (por ejemplo, desde una {@link GameSnapshot
+     * instantánea}). Si el diario ya tiene la partida, no se vuelve a registrar: se añade un
+     * registro de continuación, las bolas que le faltan al diario y, a partir de ahí, cada evento
+     * nuevo. Si no la tiene, se registra entera como con {@link #attachJournal(GameJournal)}.
+     *
+     * @param journal El diario donde se registró la partida.
+     * @throws IOException Si los registros del diario no se pueden leer.
+     */
+    public void continueJournal(GameJournal journal) throws IOException {
+        int[] drawn = new int[drawSequence.drawnCount()];
+        for (int i = 0; i < drawn.length; i++) {
+            drawn[i] = drawSequence.drawnAt(i);
+        }
+        GameJournal.Continuation recorded = journal.findContinuation(seed, players.size(), drawn);
+        if (recorded == null) {
+            attachJournal(journal);
+            return;
+        }
+        journal.recordGameResumed(seed, players.size(), recorded.balls());
+        for (int i = recorded.balls(); i < drawn.length; i++) {
+            journal.recordBall(drawn[i]); // Bolas cantadas después del último registro del diario.
+        }
+        this.journal = journal;
+        recordNewWinners(recorded.winners());
+    }
+
+    /**
+     * Registra en el diario los ganadores que aparecieron desde que había {@code winnersBefore}.
+     *
+     * @param winnersBefore La cantidad de ganadores ya registrados.
+     */
+    private void recordNewWinners(int winnersBefore) {
+        if (winTracker == null || winTracker.getWinnerCount() == winnersBefore) {
+            return;
+        }
+        List<Player> winners = winTracker.getWinners();
+        for (int i = winnersBefore; i < winners.size(); i++) {
+            journal.recordWinner(players.indexOf(winners.get(i)));
+        }
+    }
+
+    /**
+     * Indica si el jugador ha completado el patrón de la estrategia actual en alguno de sus cartones.
+     * La respuesta la mantiene el {@link WinTracker} a medida que se marcan las bolas,
+     * por lo que no recorre los cartones del jugador.
+     *
+     * @param player El jugador a consultar.
+     * @return {@code true} si el jugador ha hecho Bingo, {@code false} en caso contrario.
+     */
+    public boolean hasBingo(Player player) {
+        return winTracker != null && winTracker.hasWon(player);
+    }
+
+    /**
+     * Indica si algún jugador ya ha hecho Bingo con la estrategia actual.
+     *
+     * @return {@code true} si hay al menos un ganador.
+     */
+    public boolean hasWinner() {
+        return winTracker != null && winTracker.hasWinner();
+    }
+
+    /**
+     * Obtiene los jugadores que han hecho Bingo, en el orden en que lo lograron.
+     *
+     * @return Una lista inmutable de ganadores (vacía si todavía no hay ninguno).
+     */
+    public List<Player> getWinners() {
+        return (winTracker != null) ? winTracker.getWinners() : Collections.emptyList();
     }
 
     /**
@@ -160,7 +481,7 @@ public class Game extends Patterns.Behavioral.Observer.Subject {
      * @return La cantidad de bolas que quedan en el bombo.
      */
     public int getBallsRemaining() {
-        return availableBalls.size();
+        return drawSequence.remaining();
     }
 
     /**
@@ -169,6 +490,6 @@ public class Game extends Patterns.Behavioral.Observer.Subject {
      * @return {@code true} si hay bolas restantes, {@code false} si el bombo está vacío.
      */
     public boolean hasMoreBalls() {
-        return !availableBalls.isEmpty();
+        return drawSequence.hasNext();
     }
 }
\ No newline at end of file
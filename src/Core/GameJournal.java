@@ -0,0 +1,559 @@
+package Core;
+
+import Patterns.Creational.AbstractFactory.Player1Factory;
+import Patterns.Creational.AbstractFactory.PlayerFactory;
+import Patterns.Behavioral.Strategy.WinStrategy;
+import Players.Player;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+
+/**
+ * Clase GameJournal
+ *
+ * Diario binario de partidas, de solo añadido, escrito sobre un fichero mapeado en memoria.
+ * Registra la creación de cada partida, los jugadores y sus cartones, la estrategia elegida,
+ * cada bola cantada y los ganadores, de modo que {@link #replay(Path)} pueda reconstruir el
+ * estado de cualquier {@link Game partida} registrada.
+ *
+ * Formato: una cabecera de {@value #HEADER_SIZE} bytes (número mágico y versión) seguida de
+ * registros {@code [tipo: byte][longitud: int][datos]}. El byte de tipo se escribe el último
+ * y tras cada registro queda un byte 0, así que un registro a medio escribir (por un corte)
+ * nunca se lee como válido: la lectura se detiene en el primer tipo 0.
+ *
+ * Una partida reanudada desde una {@link GameSnapshot instantánea} no se vuelve a registrar
+ * entera: se añade un registro de continuación y, a partir de él, los eventos nuevos, que
+ * {@link #replay(Path)} une a los de la partida original.
+ *
+ * Escribir un registro es copiar unos pocos bytes en la región mapeada; el volcado a disco
+ * ({@link MappedByteBuffer#force()}) se agrupa cada {@code forceEvery} registros. Los ganadores
+ * y el cierre del diario se vuelcan en el momento.
+ *
+ * No implementa directamente un patrón de diseño GoF; es un componente de persistencia del
+ * Core que el {@link Game juego} alimenta con sus eventos.
+ */
+public class GameJournal implements Closeable {
+
+    private static final int MAGIC = 0x424A4E4C;        // "BJNL"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 8;            // Mágico (int), versión (short) y relleno (short).
+    private static final int RECORD_HEADER_SIZE = 5;     // Tipo (byte) y longitud de los datos (int).
+    private static final int REGION_SIZE = 1 << 20;      // Tamaño de cada región mapeada (1 MiB).
+
+    /** Cantidad de registros entre volcados a disco por defecto. */
+    public static final int DEFAULT_FORCE_EVERY = 64;
+
+    // Tipos de registro. El 0 marca el final del diario.
+    private static final byte GAME_CREATED = 1;          // [tieneSemilla: byte][semilla: long][instante: long]
+    private static final byte PLAYER_REGISTERED = 2;     // [índice: int][nombre: short + UTF-8]
+    private static final byte CARD_ASSIGNED = 3;         // [índice del jugador: int][filas: byte][columnas: byte][números: byte...]
+    private static final byte STRATEGY_SELECTED = 4;     // [nombre: short + UTF-8]
+    private static final byte BALL_CALLED = 5;           // [bola: byte]
+    private static final byte WINNER = 6;                // [índice del jugador: int]
+    private static final byte GAME_RESUMED = 7;          // [tieneSemilla: byte][semilla: long][instante: long][jugadores: int][bolas ya registradas: int]
+
+    private final FileChannel channel;
+    private final int forceEvery;
+    private MappedByteBuffer region;   // Región mapeada en la que se escribe.
+    private long regionStart;          // Posición en el fichero donde empieza la región.
+    private long position;             // Posición en el fichero del próximo registro.
+    private int unforced;              // Registros escritos desde el último volcado.
+    private boolean closed;
+
+    private GameJournal(FileChannel channel, long position, int forceEvery) throws IOException {
+        this.channel = channel;
+        this.position = position;
+        this.forceEvery = Math.max(1, forceEvery);
+        mapRegion(REGION_SIZE);
+    }
+
+    /**
+     * Abre un diario para añadir registros, con el volcado a disco por defecto.
+     *
+     * @param file El fichero del diario. Se crea si no existe.
+     * @return El diario abierto.
+     * @throws IOException Si el fichero no se puede abrir o no es un diario válido.
+     */
+    public static GameJournal open(Path file) throws IOException {
+        return open(file, DEFAULT_FORCE_EVERY);
+    }
+
+    /**
+     * Abre un diario para añadir registros. Si el fichero ya tiene registros, los nuevos
+     * se añaden después del último registro completo.
+     *
+     * @param file El fichero del diario. Se crea si no existe.
+     * @param forceEvery Cantidad de registros entre volcados a disco.
+     * @return El diario abierto.
+     * @throws IOException Si el fichero no se puede abrir o no es un diario válido.
+     */
+    public static GameJournal open(Path file, int forceEvery) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long end;
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putShort(VERSION).putShort((short) 0);
+                header.flip();
+                channel.write(header, 0);
+                end = HEADER_SIZE;
+            } else {
+                end = findEnd(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+            return new GameJournal(channel, end, forceEvery);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Registra la creación de una partida. Los registros siguientes pertenecen a ella
+     * hasta la próxima creación.
+     *
+     * @param seed La semilla de la partida, si la tiene.
+     */
+    public synchronized void recordGameCreated(OptionalLong seed) {
+        ByteBuffer out = begin(17);
+        out.put((byte) (seed.isPresent() ? 1 : 0));
+        out.putLong(seed.orElse(0L));
+        out.putLong(System.currentTimeMillis());
+        commit(GAME_CREATED, 17);
+    }
+
+    /**
+     * Registra que una partida ya registrada continúa (por ejemplo, tras reanudarla desde una
+     * instantánea). Los registros siguientes pertenecen a esa partida, que se identifica por su
+     * semilla, su cantidad de jugadores y la cantidad de bolas que el diario ya tiene de ella.
+     *
+     * @param seed La semilla de la partida, si la tiene.
+     * @param players La cantidad de jugadores de la partida.
+     * @param balls Las bolas de la partida que ya están en el diario.
+     */
+    synchronized void recordGameResumed(OptionalLong seed, int players, int balls) {
+        ByteBuffer out = begin(25);
+        out.put((byte) (seed.isPresent() ? 1 : 0));
+        out.putLong(seed.orElse(0L));
+        out.putLong(System.currentTimeMillis());
+        out.putInt(players);
+        out.putInt(balls);
+        commit(GAME_RESUMED, 25);
+    }
+
+    /**
+     * Busca en el diario la partida que continúa una partida reanudada: la última con la misma
+     * semilla y cantidad de jugadores cuyas bolas registradas son las primeras bolas cantadas.
+     *
+     * @param seed La semilla de la partida, si la tiene.
+     * @param players La cantidad de jugadores de la partida.
+     * @param drawn Las bolas cantadas de la partida, en orden.
+     * @return Lo que el diario ya tiene de la partida, o {@code null} si no la tiene.
+     * @throws IOException Si los registros del diario no se pueden leer.
+     */
+    synchronized Continuation findContinuation(OptionalLong seed, int players, int[] drawn) throws IOException {
+        ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, position);
+        List<GameRecords> games = scanGames(data, (int) position);
+        for (int i = games.size() - 1; i >= 0; i--) {
+            GameRecords game = games.get(i);
+            if (game.matches(seed.isPresent(), seed.orElse(0L), players) && game.ballCount <= drawn.length
+                    && Arrays.equals(game.balls, 0, game.ballCount, drawn, 0, game.ballCount)) {
+                return new Continuation(game.ballCount, game.winnerCount);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registra un jugador y los cartones que tiene asignados.
+     *
+     * @param index La posición del jugador en la partida.
+     * @param player El jugador registrado.
+     */
+    public synchronized void recordPlayer(int index, Player player) {
+        byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+        int length = 4 + 2 + name.length;
+        ByteBuffer out = begin(length);
+        out.putInt(index);
+        out.putShort((short) name.length);
+        out.put(name);
+        commit(PLAYER_REGISTERED, length);
+
+        for (Card card : player.getCards()) {
+            int cells = card.getRows() * card.getCols();
+            out = begin(6 + cells);
+            out.putInt(index);
+            out.put((byte) card.getRows());
+            out.put((byte) card.getCols());
+            for (int i = 0; i < card.getRows(); i++) {
+                for (int j = 0; j < card.getCols(); j++) {
+                    out.put((byte) card.getNumber(i, j));
+                }
+            }
+            commit(CARD_ASSIGNED, 6 + cells);
+        }
+    }
+
+    /**
+     * Registra la estrategia de victoria elegida.
+     *
+     * @param name El nombre de la estrategia ({@link WinStrategy#getName()}).
+     */
+    public synchronized void recordStrategy(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer out = begin(2 + bytes.length);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+        commit(STRATEGY_SELECTED, 2 + bytes.length);
+    }
+
+    /**
+     * Registra una bola cantada.
+     *
+     * @param ball El número de la bola.
+     */
+    public synchronized void recordBall(int ball) {
+        ByteBuffer out = begin(1);
+        out.put((byte) ball);
+        commit(BALL_CALLED, 1);
+    }
+
+    /**
+     * Registra un ganador y vuelca el diario a disco en el momento.
+     *
+     * @param playerIndex La posición del jugador ganador en la partida.
+     */
+    public synchronized void recordWinner(int playerIndex) {
+        ByteBuffer out = begin(4);
+        out.putInt(playerIndex);
+        commit(WINNER, 4);
+        force();
+    }
+
+    /**
+     * Vuelca a disco los registros pendientes.
+     */
+    public synchronized void force() {
+        if (!closed && unforced > 0) {
+            region.force();
+            unforced = 0;
+        }
+    }
+
+    /**
+     * Vuelca los registros pendientes, recorta el fichero al último registro y lo cierra.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        force();
+        closed = true;
+        region = null;
+        try {
+            channel.truncate(position + 1); // Conserva el byte 0 que marca el final.
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Reserva espacio para un registro y devuelve la región colocada en el inicio de sus datos.
+     */
+    private ByteBuffer begin(int length) {
+        if (closed) {
+            throw new IllegalStateException("El diario está cerrado");
+        }
+        int recordSize = RECORD_HEADER_SIZE + length + 1; // Más el byte 0 que marca el final.
+        if (position + recordSize > regionStart + region.capacity()) {
+            try {
+                force();
+                mapRegion(Math.max(REGION_SIZE, recordSize));
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo ampliar el diario", e);
+            }
+        }
+        region.position((int) (position - regionStart) + RECORD_HEADER_SIZE);
+        return region;
+    }
+
+    /**
+     * Completa un registro cuyos datos ya se escribieron: primero la longitud y el byte 0 siguiente,
+     * y por último el tipo, que es lo que lo hace visible.
+     */
+    private void commit(byte type, int length) {
+        int offset = (int) (position - regionStart);
+        region.putInt(offset + 1, length);
+        region.put(offset + RECORD_HEADER_SIZE + length, (byte) 0);
+        region.put(offset, type);
+        position += RECORD_HEADER_SIZE + length;
+        if (++unforced >= forceEvery) {
+            force();
+        }
+    }
+
+    /**
+     * Mapea una nueva región de escritura a partir de la posición actual (el fichero crece si hace falta).
+     */
+    private void mapRegion(int size) throws IOException {
+        regionStart = position;
+        region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, size);
+    }
+
+    /**
+     * Valida la cabecera y busca la posición siguiente al último registro completo.
+     */
+    private static long findEnd(ByteBuffer data) throws IOException {
+        if (data.limit() < HEADER_SIZE || data.getInt(0) != MAGIC || data.getShort(4) != VERSION) {
+            throw new IOException("El fichero no es un diario de partidas válido");
+        }
+        int pos = HEADER_SIZE;
+        while (pos + RECORD_HEADER_SIZE <= data.limit()) {
+            byte type = data.get(pos);
+            int length = data.getInt(pos + 1);
+            if (type < GAME_CREATED || type > GAME_RESUMED || length < 0
+                    || length > data.limit() - pos - RECORD_HEADER_SIZE) {
+                break; // Final del diario, o un registro incompleto.
+            }
+            pos += RECORD_HEADER_SIZE + length;
+        }
+        return pos;
+    }
+
+    /**
+     * Reconstruye todas las partidas registradas en un diario. Cada partida se crea con el
+     * orden de bolas registrado (seguido de las bolas no cantadas, en orden ascendente), sus
+     * jugadores y cartones, y su estrategia; luego se vuelven a jugar las bolas cantadas, por lo
+     * que el estado resultante (marcas, historial y ganadores) es el de la partida original.
+     * Los jugadores se recrean como {@link Players.Player1}: el tipo de jugador no afecta al juego.
+     * Los registros de una partida reanudada se unen a los de la partida que continúan.
+     *
+     * @param file El fichero del diario.
+     * @return Las partidas registradas, en el orden en que se crearon.
+     * @throws IOException Si el fichero no se puede leer, no es un diario válido o los ganadores
+     * de la reconstrucción no coinciden con los registrados.
+     */
+    public static List<Game> replay(Path file) throws IOException {
+        ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        List<Game> games = new ArrayList<>();
+        for (GameRecords records : scanGames(data, (int) findEnd(data))) {
+            games.add(replayGame(data, records));
+        }
+        return games;
+    }
+
+    /**
+     * Separa los registros de {@code [HEADER_SIZE, end)} por partidas. Cada creación empieza una
+     * partida y cada continuación añade un tramo a la partida que continúa.
+     */
+    private static List<GameRecords> scanGames(ByteBuffer data, int end) throws IOException {
+        List<GameRecords> games = new ArrayList<>();
+        GameRecords current = null;
+        int segmentStart = -1;
+        for (int pos = HEADER_SIZE; pos < end; pos += RECORD_HEADER_SIZE + data.getInt(pos + 1)) {
+            byte type = data.get(pos);
+            int payload = pos + RECORD_HEADER_SIZE;
+            if (type == GAME_CREATED || type == GAME_RESUMED) {
+                if (current != null) {
+                    current.segments.add(new int[] {segmentStart, pos});
+                }
+                boolean hasSeed = data.get(payload) != 0;
+                long seed = data.getLong(payload + 1);
+                if (type == GAME_CREATED) {
+                    current = new GameRecords(hasSeed, seed);
+                    games.add(current);
+                } else {
+                    current = findResumed(games, hasSeed, seed, data.getInt(payload + 17), data.getInt(payload + 21));
+                }
+                segmentStart = pos;
+            } else if (current != null) {
+                switch (type) {
+                    case PLAYER_REGISTERED:
+                        current.playerCount++;
+                        break;
+                    case BALL_CALLED:
+                        if (current.ballCount == current.balls.length) {
+                            throw new IOException("Más de " + current.balls.length + " bolas en una partida del diario");
+                        }
+                        current.balls[current.ballCount++] = data.get(payload);
+                        break;
+                    case WINNER:
+                        current.winnerCount++;
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        if (current != null) {
+            current.segments.add(new int[] {segmentStart, end});
+        }
+        return games;
+    }
+
+    /**
+     * Busca la partida que continúa un registro de continuación: la última con esa semilla y
+     * cantidad de jugadores que tiene exactamente las bolas indicadas.
+     */
+    private static GameRecords findResumed(List<GameRecords> games, boolean hasSeed, long seed,
+                                           int players, int balls) throws IOException {
+        for (int i = games.size() - 1; i >= 0; i--) {
+            GameRecords game = games.get(i);
+            if (game.matches(hasSeed, seed, players) && game.ballCount == balls) {
+                return game;
+            }
+        }
+        throw new IOException("El diario continúa una partida que no tiene registrada");
+    }
+
+    /**
+     * Reconstruye una partida a partir de sus tramos de registros.
+     */
+    private static Game replayGame(ByteBuffer data, GameRecords records) throws IOException {
+        // Primera pasada: el orden de extracción, que la partida necesita desde su creación.
+        int[] order = new int[75];
+        boolean[] drawn = new boolean[76];
+        int drawnCount = 0;
+        for (int[] segment : records.segments) {
+            for (int pos = segment[0]; pos < segment[1]; pos += RECORD_HEADER_SIZE + data.getInt(pos + 1)) {
+                if (data.get(pos) != BALL_CALLED) {
+                    continue;
+                }
+                int ball = data.get(pos + RECORD_HEADER_SIZE);
+                if (ball < 1 || ball > 75 || drawn[ball]) {
+                    throw new IOException("Bola inválida o repetida en el diario: " + ball);
+                }
+                drawn[ball] = true;
+                order[drawnCount++] = ball;
+            }
+        }
+        for (int ball = 1, i = drawnCount; ball <= 75; ball++) {
+            if (!drawn[ball]) {
+                order[i++] = ball;
+            }
+        }
+
+        OptionalLong seed = records.hasSeed ? OptionalLong.of(records.seed) : OptionalLong.empty();
+        Game game = new Game(new ShuffledDrawSequence(order, new SplittableRandom()), seed);
+
+        // Segunda pasada: los eventos en el orden en que ocurrieron.
+        PlayerFactory playerFactory = new Player1Factory();
+        Player pending = null; // Jugador cuyos cartones se están leyendo; se añade al terminar.
+        List<Integer> recordedWinners = new ArrayList<>();
+        for (int[] segment : records.segments) {
+            for (int pos = segment[0]; pos < segment[1]; pos += RECORD_HEADER_SIZE + data.getInt(pos + 1)) {
+                byte type = data.get(pos);
+                int payload = pos + RECORD_HEADER_SIZE;
+                if (type == CARD_ASSIGNED) {
+                    if (pending == null) {
+                        throw new IOException("Cartón sin jugador en el diario");
+                    }
+                    int rows = data.get(payload + 4);
+                    int cols = data.get(payload + 5);
+                    int[] numbers = new int[rows * cols];
+                    for (int i = 0; i < numbers.length; i++) {
+                        numbers[i] = data.get(payload + 6 + i) & 0xFF;
+                    }
+                    CardStore store = game.getCardStore();
+                    boolean fits = rows == store.getRows() && cols == store.getCols();
+                    pending.addCard(fits ? store.add(numbers) : new Card(numbers, rows, cols));
+                    continue;
+                }
+                if (pending != null) {
+                    game.addPlayer(pending);
+                    pending = null;
+                }
+                switch (type) {
+                    case PLAYER_REGISTERED:
+                        pending = playerFactory.createPlayer(readString(data, payload + 4));
+                        break;
+                    case STRATEGY_SELECTED:
+                        String strategyName = readString(data, payload);
+                        WinStrategy strategy = Game.findWinStrategy(strategyName);
+                        if (strategy == null) {
+                            throw new IOException("Estrategia desconocida en el diario: " + strategyName);
+                        }
+                        game.setWinStrategy(strategy);
+                        break;
+                    case BALL_CALLED:
+                        game.playRoundGUI();
+                        break;
+                    case WINNER:
+                        recordedWinners.add(data.getInt(payload));
+                        break;
+                    default:
+                        break; // GAME_CREATED y GAME_RESUMED ya se leyeron al separar las partidas.
+                }
+            }
+        }
+        if (pending != null) {
+            game.addPlayer(pending);
+        }
+
+        List<Integer> replayedWinners = new ArrayList<>();
+        for (Player winner : game.getWinners()) {
+            replayedWinners.add(game.getPlayers().indexOf(winner));
+        }
+        if (!replayedWinners.equals(recordedWinners)) {
+            throw new IOException("Los ganadores reconstruidos " + replayedWinners
+                    + " no coinciden con los registrados " + recordedWinners);
+        }
+        return game;
+    }
+
+    /**
+     * Lo que el diario ya tiene de una partida que se va a continuar.
+     *
+     * @param balls Las bolas registradas.
+     * @param winners Los ganadores registrados.
+     */
+    record Continuation(int balls, int winners) {
+    }
+
+    /**
+     * Registros de una partida del diario: sus tramos {@code [inicio, fin)} y lo necesario para
+     * reconocerla al continuarla.
+     */
+    private static final class GameRecords {
+        private final boolean hasSeed;
+        private final long seed;
+        private final List<int[]> segments = new ArrayList<>();
+        private final int[] balls = new int[75];   // Bolas registradas, en orden.
+        private int ballCount;
+        private int playerCount;
+        private int winnerCount;
+
+        private GameRecords(boolean hasSeed, long seed) {
+            this.hasSeed = hasSeed;
+            this.seed = seed;
+        }
+
+        private boolean matches(boolean hasSeed, long seed, int players) {
+            return this.hasSeed == hasSeed && (!hasSeed || this.seed == seed) && playerCount == players;
+        }
+    }
+
+    /**
+     * Lee una cadena con su longitud ({@code short}) delante, en UTF-8.
+     */
+    private static String readString(ByteBuffer data, int pos) {
+        byte[] bytes = new byte[data.getShort(pos)];
+        data.get(pos + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
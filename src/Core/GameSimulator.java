@@ -0,0 +1,183 @@
+package Core;
+
+import Patterns.Behavioral.Strategy.WinStrategy;
+import Patterns.Creational.AbstractFactory.CardFactory;
+import Patterns.Creational.AbstractFactory.Player1Factory;
+import Patterns.Creational.AbstractFactory.PlayerFactory;
+import Players.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Clase GameSimulator
+ *
+ * Motor de simulación sin interfaz gráfica. Juega partidas completas (cantar bola, marcar cartones,
+ * detectar ganadores con la {@link WinStrategy} configurada) tan rápido como lo permita la CPU,
+ * sin el {@code Timer} ni las ventanas de la GUI.
+ *
+ * Reutiliza las mismas piezas que el juego normal: {@link Game} para el flujo de bolas y la
+ * detección de victorias, {@link CardFactory} para los cartones y las fábricas de jugadores,
+ * de modo que los resultados son representativos de las partidas reales.
+ *
+ * Cada instancia es independiente y no comparte estado, por lo que pueden usarse varias
+ * en paralelo (una por hilo).
+ */
+public class GameSimulator {
+
+    /**
+     * Fábrica de cartones usada para generar los cartones de las partidas simuladas.
+     */
+    private final CardFactory cardFactory;
+
+    /**
+     * Fábrica de jugadores usada para crear los jugadores de las partidas simuladas.
+     */
+    private final PlayerFactory playerFactory;
+
+    /**
+     * Generador usado para el orden de las bolas y la elección de estrategia de cada partida.
+     */
+    private final RandomGenerator random;
+
+    /**
+     * Crea un simulador con las fábricas por defecto.
+     */
+    public GameSimulator() {
+        this(new Random());
+    }
+
+    /**
+     * Crea un simulador cuyas partidas (cartones y orden de bolas) se generan con el generador indicado.
+     * Cada hilo debería usar su propio generador, por ejemplo un {@link java.util.SplittableRandom} dividido.
+     *
+     * @param random El generador de números aleatorios a utilizar.
+     */
+    public GameSimulator(RandomGenerator random) {
+        this(new CardFactory(random), new Player1Factory(), random);
+    }
+
+    /**
+     * Crea un simulador con fábricas concretas.
+     *
+     * @param cardFactory La fábrica de cartones.
+     * @param playerFactory La fábrica de jugadores.
+     * @param random El generador para el orden de las bolas y la elección de estrategia.
+     */
+    public GameSimulator(CardFactory cardFactory, PlayerFactory playerFactory, RandomGenerator random) {
+        this.cardFactory = cardFactory;
+        this.playerFactory = playerFactory;
+        this.random = random;
+    }
+
+    /**
+     * Juega hasta el final una partida ya configurada (jugadores registrados y estrategia elegida).
+     * La partida termina en la primera bola que produce al menos un ganador, o cuando se agotan las bolas.
+     *
+     * @param game El {@link Game} a jugar.
+     * @return El {@link SimulationResult resultado} de la partida.
+     */
+    public SimulationResult play(Game game) {
+        // Cada ronda canta una bola, la marca vía índice y actualiza el detector de victorias.
+        while (!game.hasWinner()) {
+            if (game.playRoundGUI() == -1) {
+                break; // No quedan bolas: nadie hizo Bingo.
+            }
+        }
+        int[] balls = game.getCalledBallsArray();
+        String strategyName = (game.getWinStrategy() != null) ? game.getWinStrategy().getName() : "";
+        return new SimulationResult(strategyName, balls, game.getWinners());
+    }
+
+    /**
+     * Crea una partida nueva con la cantidad de jugadores y cartones indicada y la juega.
+     *
+     * @param playerCount El número de jugadores.
+     * @param cardsPerPlayer El número de cartones por jugador.
+     * @param strategy La estrategia de victoria; si es {@code null} se elige una al azar.
+     * @return El {@link SimulationResult resultado} de la partida.
+     */
+    public SimulationResult simulate(int playerCount, int cardsPerPlayer, WinStrategy strategy) {
+        return play(createGame(playerCount, cardsPerPlayer, strategy));
+    }
+
+    /**
+     * Juega varias partidas independientes seguidas con la misma configuración.
+     *
+     * @param games El número de partidas a jugar.
+     * @param playerCount El número de jugadores por partida.
+     * @param cardsPerPlayer El número de cartones por jugador.
+     * @param strategy La estrategia de victoria; si es {@code null} se elige una al azar en cada partida.
+     * @return Los resultados, en el orden en que se jugaron.
+     */
+    public List<SimulationResult> simulateMany(int games, int playerCount, int cardsPerPlayer, WinStrategy strategy) {
+        List<SimulationResult> results = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            results.add(simulate(playerCount, cardsPerPlayer, strategy));
+        }
+        return results;
+    }
+
+    /**
+     * Construye una partida lista para jugar: crea los jugadores, les asigna cartones,
+     * los registra y fija la estrategia de victoria.
+     *
+     * @param playerCount El número de jugadores.
+     * @param cardsPerPlayer El número de cartones por jugador.
+     * @param strategy La estrategia de victoria; si es {@code null} se elige una al azar.
+     * @return El {@link Game} configurado.
+     */
+    public Game createGame(int playerCount, int cardsPerPlayer, WinStrategy strategy) {
+        return populate(new Game(random), cardFactory, playerCount, cardsPerPlayer, strategy);
+    }
+
+    /**
+     * Construye una partida reproducible a partir de una semilla: los cartones se generan con el
+     * flujo de cartones de la propia partida, así que la misma semilla con los mismos parámetros
+     * produce exactamente la misma partida (útil para comparar ejecuciones sobre entradas idénticas).
+     *
+     * @param seed La semilla de la partida.
+     * @param playerCount El número de jugadores.
+     * @param cardsPerPlayer El número de cartones por jugador.
+     * @param strategy La estrategia de victoria; si es {@code null} se elige una a partir de la semilla.
+     * @return El {@link Game} configurado.
+     */
+    public Game createGame(long seed, int playerCount, int cardsPerPlayer, WinStrategy strategy) {
+        Game game = new Game(seed);
+        return populate(game, new CardFactory(game.getCardRandom(), game.getCardStore()), playerCount, cardsPerPlayer, strategy);
+    }
+
+    /**
+     * Juega hasta el final una partida reproducible a partir de su semilla.
+     *
+     * @param seed La semilla de la partida.
+     * @param playerCount El número de jugadores.
+     * @param cardsPerPlayer El número de cartones por jugador.
+     * @param strategy La estrategia de victoria; si es {@code null} se elige una a partir de la semilla.
+     * @return El resultado de la partida, idéntico en cada repetición con la misma semilla.
+     */
+    public SimulationResult replay(long seed, int playerCount, int cardsPerPlayer, WinStrategy strategy) {
+        return play(createGame(seed, playerCount, cardsPerPlayer, strategy));
+    }
+
+    /**
+     * Crea los jugadores con sus cartones, los registra en la partida y fija la estrategia.
+     */
+    private Game populate(Game game, CardFactory cards, int playerCount, int cardsPerPlayer, WinStrategy strategy) {
+        for (int p = 0; p < playerCount; p++) {
+            Player player = playerFactory.createPlayer("Jugador " + (p + 1));
+            for (int c = 0; c < cardsPerPlayer; c++) {
+                player.addCard(cards.createDefaultCard());
+            }
+            game.addPlayer(player); // Los cartones deben estar asignados antes de indexarlos.
+        }
+        if (strategy != null) {
+            game.setWinStrategy(strategy);
+        } else {
+            game.randomlyChooseWinStrategy();
+        }
+        return game;
+    }
+}
@@ -0,0 +1,243 @@
+package Core;
+
+import Patterns.Behavioral.Strategy.WinStrategy;
+import Patterns.Creational.AbstractFactory.Player1Factory;
+import Patterns.Creational.AbstractFactory.PlayerFactory;
+import Players.Player;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+
+/**
+ * Clase GameSnapshot
+ *
+ * Instantánea binaria y compacta de una {@link Game partida} en curso, con la que se puede
+ * reanudar tras reiniciar la aplicación. Guarda la semilla, el orden de extracción completo
+ * (las bolas cantadas y las que quedan), la cantidad de bolas cantadas, la estrategia y los
+ * jugadores con los números de sus cartones (un byte por casilla). Las marcas y los ganadores
+ * no se guardan: se recalculan al restaurar, porque dependen solo de las bolas cantadas.
+ *
+ * Tomar una instantánea no detiene el bucle de rondas: el orden de extracción y los números de
+ * los cartones no cambian durante la partida, y las bolas cantadas son un prefijo de ese orden
+ * que solo crece, así que basta leer una vez la cantidad de bolas que la partida
+ * {@link Game#getPublishedDrawCount() publicó} para obtener un estado coherente, aunque se siga
+ * cantando mientras tanto. Los jugadores y la estrategia deben estar configurados antes de
+ * empezar a tomar instantáneas.
+ *
+ * Es inmutable. No implementa directamente un patrón de diseño GoF; actúa como un Memento
+ * serializado de {@link Game}.
+ */
+public final class GameSnapshot {
+
+    private static final int MAGIC = 0x42534E50;   // "BSNP"
+    private static final short VERSION = 1;
+
+    private final byte[] data;                     // Instantánea codificada.
+    private final int drawnCount;                  // Bolas cantadas en el momento de la instantánea.
+
+    private GameSnapshot(byte[] data, int drawnCount) {
+        this.data = data;
+        this.drawnCount = drawnCount;
+    }
+
+    /**
+     * Toma una instantánea de la partida. Se puede llamar desde cualquier hilo mientras
+     * otro hilo juega las rondas.
+     *
+     * @param game La partida.
+     * @return La instantánea con las bolas cantadas hasta la última ronda completada.
+     */
+    public static GameSnapshot capture(Game game) {
+        int drawn = game.getPublishedDrawCount(); // Lectura volátil: fija la versión de la instantánea.
+        int[] order = game.getDrawOrder();
+        OptionalLong seed = game.getSeed();
+        WinStrategy strategy = game.getWinStrategy();
+        byte[] strategyName = (strategy != null) ? strategy.getName().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        List<Player> players = game.getPlayers();
+
+        // Primero se calcula el tamaño exacto, para codificar sin que el buffer tenga que crecer.
+        int size = 4 + 2 + 1 + 8 + 1 + order.length + 1 + 2 + strategyName.length + 4;
+        byte[][] names = new byte[players.size()][];
+        for (int i = 0; i < names.length; i++) {
+            Player player = players.get(i);
+            names[i] = player.getName().getBytes(StandardCharsets.UTF_8);
+            size += 2 + names[i].length + 4;
+            for (Card card : player.getCards()) {
+                size += 2 + card.getRows() * card.getCols();
+            }
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putInt(MAGIC).putShort(VERSION);
+        out.put((byte) (seed.isPresent() ? 1 : 0)).putLong(seed.orElse(0L));
+        out.put((byte) order.length);
+        for (int ball : order) {
+            out.put((byte) ball);
+        }
+        out.put((byte) drawn);
+        out.putShort((short) strategyName.length).put(strategyName);
+        out.putInt(names.length);
+        for (int i = 0; i < names.length; i++) {
+            List<Card> cards = players.get(i).getCards();
+            out.putShort((short) names[i].length).put(names[i]);
+            out.putInt(cards.size());
+            for (Card card : cards) {
+                out.put((byte) card.getRows()).put((byte) card.getCols());
+                for (int r = 0; r < card.getRows(); r++) {
+                    for (int c = 0; c < card.getCols(); c++) {
+                        out.put((byte) card.getNumber(r, c));
+                    }
+                }
+            }
+        }
+        return new GameSnapshot(out.array(), drawn);
+    }
+
+    /**
+     * Obtiene la cantidad de bolas cantadas que recoge la instantánea.
+     *
+     * @return El número de bolas cantadas.
+     */
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    /**
+     * Obtiene la instantánea codificada.
+     *
+     * @return Una copia de los bytes de la instantánea.
+     */
+    public byte[] toByteArray() {
+        return data.clone();
+    }
+
+    /**
+     * Reconstruye una instantánea a partir de sus bytes.
+     *
+     * @param bytes Los bytes obtenidos con {@link #toByteArray()}.
+     * @return La instantánea.
+     * @throws IOException Si los bytes no son una instantánea válida.
+     */
+    public static GameSnapshot fromByteArray(byte[] bytes) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        try {
+            if (in.getInt() != MAGIC || in.getShort() != VERSION) {
+                throw new IOException("Los datos no son una instantánea de partida válida");
+            }
+            in.position(in.position() + 9);   // Semilla.
+            int orderLength = in.get() & 0xFF;
+            in.position(in.position() + orderLength);
+            return new GameSnapshot(bytes.clone(), in.get() & 0xFF);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Instantánea de partida incompleta", e);
+        }
+    }
+
+    /**
+     * Escribe la instantánea en un fichero. Se escribe primero en un fichero temporal que luego
+     * reemplaza al destino, de modo que un corte nunca deja una instantánea a medias.
+     *
+     * @param file El fichero de destino.
+     * @throws IOException Si no se puede escribir.
+     */
+    public void writeTo(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.write(temp, data);
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Lee una instantánea de un fichero.
+     *
+     * @param file El fichero escrito con {@link #writeTo(Path)}.
+     * @return La instantánea.
+     * @throws IOException Si no se puede leer o no es una instantánea válida.
+     */
+    public static GameSnapshot readFrom(Path file) throws IOException {
+        return fromByteArray(Files.readAllBytes(file));
+    }
+
+    /**
+     * Restaura la partida: la misma semilla, el mismo orden de extracción, los mismos jugadores
+     * y cartones y la misma estrategia, con las bolas de la instantánea ya cantadas (y, por tanto,
+     * las mismas marcas y ganadores). Las rondas siguientes cantan las bolas que quedaban, en el
+     * mismo orden. Los jugadores se recrean como {@link Players.Player1}: el tipo de jugador no
+     * afecta al juego.
+     *
+     * @return Una partida nueva en el estado de la instantánea.
+     * @throws IOException Si el contenido de la instantánea no es válido.
+     */
+    public Game restore() throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        try {
+            in.position(6); // Mágico y versión, ya validados.
+            boolean hasSeed = in.get() != 0;
+            long seedValue = in.getLong();
+            int[] order = new int[in.get() & 0xFF];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = in.get() & 0xFF;
+            }
+            int drawn = in.get() & 0xFF;
+            String strategyName = readString(in);
+
+            OptionalLong seed = hasSeed ? OptionalLong.of(seedValue) : OptionalLong.empty();
+            Game game = new Game(new ShuffledDrawSequence(order, new SplittableRandom()), seed);
+
+            PlayerFactory playerFactory = new Player1Factory();
+            CardStore store = game.getCardStore();
+            // Cota superior de los cartones 5x5 que quedan por leer: el almacén se reserva de una vez.
+            store.reserve(in.remaining() / (2 + store.getRows() * store.getCols()));
+            int playerCount = in.getInt();
+            for (int p = 0; p < playerCount; p++) {
+                Player player = playerFactory.createPlayer(readString(in));
+                int cardCount = in.getInt();
+                for (int c = 0; c < cardCount; c++) {
+                    int rows = in.get();
+                    int cols = in.get();
+                    if (rows == store.getRows() && cols == store.getCols()) {
+                        // Los bytes del cartón se copian tal cual al almacén, sin array intermedio.
+                        player.addCard(new Card(store, store.append(in, in.position())));
+                        in.position(in.position() + rows * cols);
+                    } else {
+                        int[] numbers = new int[rows * cols];
+                        for (int i = 0; i < numbers.length; i++) {
+                            numbers[i] = in.get() & 0xFF;
+                        }
+                        player.addCard(new Card(numbers, rows, cols));
+                    }
+                }
+                game.addPlayer(player);
+            }
+
+            WinStrategy strategy = null;
+            if (!strategyName.isEmpty()) {
+                strategy = Game.findWinStrategy(strategyName);
+                if (strategy == null) {
+                    throw new IOException("Estrategia desconocida en la instantánea: " + strategyName);
+                }
+            }
+            game.restoreDrawnBalls(drawn, strategy); // Marca las bolas cantadas y detecta los ganadores.
+            return game;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Instantánea de partida dañada", e);
+        }
+    }
+
+    /**
+     * Lee una cadena con su longitud ({@code short}) delante, en UTF-8.
+     */
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
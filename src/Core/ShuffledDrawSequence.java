@@ -0,0 +1,118 @@
+package Core;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Clase ShuffledDrawSequence
+ *
+ * Implementación de {@link DrawSequence} sobre un único `int[]` mezclado de antemano
+ * (Fisher-Yates en el propio array) y un cursor. Cantar una bola solo avanza el cursor,
+ * y las bolas ya cantadas son el prefijo del array, por lo que el historial no necesita
+ * una lista aparte ni conversiones a {@code Integer}.
+ */
+public class ShuffledDrawSequence implements DrawSequence {
+    private final int[] balls;             // Todas las bolas, en el orden en que se cantarán.
+    private final RandomGenerator random;  // Generador usado al mezclar.
+    private int cursor;                    // Posición de la próxima bola (= bolas ya cantadas).
+
+    /**
+     * Crea una secuencia mezclada con las bolas del rango indicado y un generador propio.
+     *
+     * @param minNum El número de bola más bajo (1 en el Bingo de 75 bolas).
+     * @param maxNum El número de bola más alto (75 en el Bingo de 75 bolas).
+     */
+    public ShuffledDrawSequence(int minNum, int maxNum) {
+        this(minNum, maxNum, new Random());
+    }
+
+    /**
+     * Crea una secuencia mezclada con las bolas del rango indicado.
+     *
+     * @param minNum El número de bola más bajo.
+     * @param maxNum El número de bola más alto.
+     * @param random El generador de números aleatorios a utilizar para mezclar.
+     */
+    public ShuffledDrawSequence(int minNum, int maxNum, RandomGenerator random) {
+        this.balls = new int[maxNum - minNum + 1];
+        this.random = random;
+        for (int i = 0; i < balls.length; i++) {
+            balls[i] = minNum + i;
+        }
+        reset();
+    }
+
+    /**
+     * Constructor de una secuencia con un orden de extracción ya decidido (por ejemplo, el
+     * registrado en un {@link GameJournal diario}).
+     * El orden se copia tal cual, sin mezclar; solo {@link #reset()} volvería a mezclarlo.
+     *
+     * @param order Todas las bolas, en el orden en que se cantarán.
+     * @param random Generador usado si la secuencia se vuelve a mezclar con {@link #reset()}.
+     */
+    public ShuffledDrawSequence(int[] order, RandomGenerator random) {
+        this.balls = order.clone();
+        this.random = random;
+        this.cursor = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < balls.length;
+    }
+
+    @Override
+    public int next() {
+        if (cursor >= balls.length) {
+            throw new NoSuchElementException("No quedan bolas en el bombo");
+        }
+        return balls[cursor++];
+    }
+
+    @Override
+    public int remaining() {
+        return balls.length - cursor;
+    }
+
+    @Override
+    public int drawnCount() {
+        return cursor;
+    }
+
+    @Override
+    public int[] toArray() {
+        return balls.clone();
+    }
+
+    @Override
+    public int drawnAt(int index) {
+        if (index < 0 || index >= cursor) {
+            throw new IndexOutOfBoundsException("Bola " + index + " no cantada (cantadas: " + cursor + ")");
+        }
+        return balls[index];
+    }
+
+    /**
+     * Copia de una vez el prefijo de bolas ya cantadas del array de la secuencia.
+     */
+    @Override
+    public int[] drawnArray() {
+        return Arrays.copyOf(balls, cursor);
+    }
+
+    /**
+     * Mezcla de nuevo todas las bolas (Fisher-Yates en el propio array) y vuelve el cursor al inicio.
+     */
+    @Override
+    public void reset() {
+        for (int i = balls.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = balls[i];
+            balls[i] = balls[j];
+            balls[j] = tmp;
+        }
+        cursor = 0;
+    }
+}
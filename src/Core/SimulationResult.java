@@ -0,0 +1,84 @@
+package Core;
+
+import Players.Player;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Clase SimulationResult
+ *
+ * Resultado inmutable de una partida jugada por el {@link GameSimulator}:
+ * cuántas bolas se cantaron, en qué orden, con qué estrategia y quiénes ganaron.
+ */
+public class SimulationResult {
+    private final String strategyName;   // Nombre de la estrategia de victoria usada.
+    private final int[] calledBalls;     // Bolas cantadas, en orden.
+    private final List<Player> winners;  // Ganadores en el orden en que completaron su patrón.
+
+    /**
+     * Crea un resultado de simulación.
+     *
+     * @param strategyName El nombre de la estrategia de victoria.
+     * @param calledBalls Las bolas cantadas, en orden.
+     * @param winners Los jugadores ganadores (vacío si nadie hizo Bingo).
+     */
+    public SimulationResult(String strategyName, int[] calledBalls, List<Player> winners) {
+        this.strategyName = strategyName;
+        this.calledBalls = calledBalls.clone();
+        this.winners = Collections.unmodifiableList(winners);
+    }
+
+    /**
+     * Obtiene el número de bolas cantadas hasta el final de la partida
+     * (hasta el primer Bingo, o todas si nadie ganó).
+     *
+     * @return La cantidad de bolas cantadas.
+     */
+    public int getBallsDrawn() {
+        return calledBalls.length;
+    }
+
+    /**
+     * Obtiene las bolas cantadas en orden.
+     *
+     * @return Una copia del array de bolas cantadas.
+     */
+    public int[] getCalledBalls() {
+        return calledBalls.clone();
+    }
+
+    /**
+     * Obtiene los jugadores que hicieron Bingo en la última bola cantada.
+     *
+     * @return Una lista inmutable de ganadores.
+     */
+    public List<Player> getWinners() {
+        return winners;
+    }
+
+    /**
+     * Indica si la partida terminó con al menos un ganador.
+     *
+     * @return true si alguien hizo Bingo.
+     */
+    public boolean hasWinner() {
+        return !winners.isEmpty();
+    }
+
+    /**
+     * Obtiene el nombre de la estrategia de victoria con la que se jugó.
+     *
+     * @return El nombre de la estrategia.
+     */
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationResult{strategy=" + strategyName + ", balls=" + calledBalls.length
+                + ", winners=" + winners.size() + ", called=" + Arrays.toString(calledBalls) + "}";
+    }
+}
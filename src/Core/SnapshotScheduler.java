@@ -0,0 +1,93 @@
+package Core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clase SnapshotScheduler
+ *
+ * Guarda periódicamente una {@link GameSnapshot instantánea} de una partida en un fichero,
+ * desde su propio hilo ("bingo-snapshots"), de modo que el bucle de rondas nunca se detiene
+ * para guardarla. Si desde la última instantánea no se cantó ninguna bola, no se vuelve a escribir.
+ *
+ * No implementa directamente un patrón de diseño GoF; es un componente de persistencia del Core.
+ */
+public class SnapshotScheduler {
+
+    private final Game game;                          // Partida de la que se toman las instantáneas.
+    private final Path file;                          // Fichero donde se guarda la última instantánea.
+    private final ScheduledExecutorService executor;  // Hilo propio de las instantáneas.
+    private int savedDrawCount = -1;                  // Bolas cantadas en la última instantánea guardada.
+
+    /**
+     * Constructor para SnapshotScheduler. Empieza a guardar instantáneas de inmediato.
+     *
+     * @param game La partida, con sus jugadores y estrategia ya configurados.
+     * @param file El fichero de la instantánea.
+     * @param periodMs El tiempo entre instantáneas, en milisegundos.
+     */
+    public SnapshotScheduler(Game game, Path file, long periodMs) {
+        this.game = game;
+        this.file = file;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bingo-snapshots");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::save, 0, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Deja de tomar instantáneas y guarda una última con el estado actual de la partida,
+     * para poder reanudarla más tarde.
+     */
+    public synchronized void stop() {
+        finish(this::save);
+    }
+
+    /**
+     * Deja de tomar instantáneas y borra el fichero: la partida terminó y no hay nada que reanudar.
+     */
+    public synchronized void discard() {
+        finish(() -> {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Programa la última tarea en el hilo de las instantáneas (después de la que pudiera estar
+     * en curso) y libera el hilo. Las instantáneas periódicas se cancelan al apagar el ejecutor.
+     */
+    private void finish(Runnable lastTask) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.execute(lastTask);
+        executor.shutdown();
+    }
+
+    /**
+     * Guarda una instantánea si se cantó alguna bola desde la última.
+     */
+    private void save() {
+        int drawn = game.getPublishedDrawCount();
+        if (drawn == savedDrawCount) {
+            return;
+        }
+        try {
+            GameSnapshot snapshot = game.snapshot();
+            snapshot.writeTo(file);
+            savedDrawCount = snapshot.getDrawnCount();
+        } catch (IOException e) {
+            e.printStackTrace(); // Se reintenta en el próximo periodo.
+        }
+    }
+}
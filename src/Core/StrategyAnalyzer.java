@@ -0,0 +1,139 @@
+package Core;
+
+import Patterns.Behavioral.Strategy.WinStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Clase StrategyAnalyzer
+ *
+ * Analizador Monte Carlo de las estrategias de victoria. Para cada estrategia de
+ * {@link Game#availableWinStrategies()} y cada cantidad de cartones, simula muchas partidas
+ * independientes con el {@link GameSimulator} y construye la distribución de
+ * "bolas cantadas hasta el primer Bingo" ({@link StrategyReport}).
+ *
+ * Las partidas se reparten con fork/join: cada tarea divide su {@link SplittableRandom} al
+ * bifurcarse, de modo que cada hilo trabaja con su propio generador, sin estado compartido
+ * ni contención, y el resultado solo depende de la semilla. Cada hoja acumula su propio
+ * histograma y los histogramas se suman al unir las tareas.
+ */
+public class StrategyAnalyzer {
+
+    /**
+     * Número de partidas a partir del cual una tarea se divide en dos.
+     */
+    private static final int GAMES_PER_TASK = 64;
+
+    /**
+     * Número de bolas del juego (tamaño del histograma - 1).
+     */
+    private static final int MAX_BALLS = 75;
+
+    /**
+     * Pool de fork/join en el que se ejecutan las simulaciones.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Crea un analizador que usa el pool común (un hilo por núcleo).
+     */
+    public StrategyAnalyzer() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un analizador que ejecuta las simulaciones en el pool indicado.
+     *
+     * @param pool El {@link ForkJoinPool} a utilizar.
+     */
+    public StrategyAnalyzer(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Analiza todas las estrategias disponibles para cada cantidad de cartones.
+     *
+     * @param cardCounts Las cantidades de cartones a evaluar.
+     * @param games El número de partidas por combinación estrategia/cartones.
+     * @param seed La semilla de la que derivan todas las partidas.
+     * @return Un informe por cada combinación, agrupados por estrategia.
+     */
+    public List<StrategyReport> analyzeAll(int[] cardCounts, int games, long seed) {
+        List<StrategyReport> reports = new ArrayList<>();
+        SplittableRandom root = new SplittableRandom(seed);
+        for (WinStrategy strategy : Game.availableWinStrategies()) {
+            for (int cardCount : cardCounts) {
+                reports.add(analyze(strategy, cardCount, games, root.split()));
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * Analiza una estrategia con una cantidad de cartones concreta.
+     *
+     * @param strategy La estrategia de victoria a evaluar.
+     * @param cardCount El número de cartones en juego en cada partida.
+     * @param games El número de partidas a simular.
+     * @param seed La semilla de la que derivan todas las partidas.
+     * @return El {@link StrategyReport informe} con la distribución obtenida.
+     */
+    public StrategyReport analyze(WinStrategy strategy, int cardCount, int games, long seed) {
+        return analyze(strategy, cardCount, games, new SplittableRandom(seed));
+    }
+
+    private StrategyReport analyze(WinStrategy strategy, int cardCount, int games, SplittableRandom random) {
+        long[] histogram = pool.invoke(new SimulationTask(strategy, cardCount, games, random));
+        return new StrategyReport(strategy.getName(), cardCount, histogram);
+    }
+
+    /**
+     * Tarea de fork/join que simula un bloque de partidas y devuelve su histograma.
+     */
+    private static final class SimulationTask extends RecursiveTask<long[]> {
+        private final WinStrategy strategy;
+        private final int cardCount;
+        private final int games;
+        private final SplittableRandom random;
+
+        private SimulationTask(WinStrategy strategy, int cardCount, int games, SplittableRandom random) {
+            this.strategy = strategy;
+            this.cardCount = cardCount;
+            this.games = games;
+            this.random = random;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (games <= GAMES_PER_TASK) {
+                return simulate();
+            }
+            int half = games / 2;
+            // El generador se divide antes de bifurcar: cada subtarea obtiene una secuencia independiente.
+            SimulationTask left = new SimulationTask(strategy, cardCount, half, random.split());
+            SimulationTask right = new SimulationTask(strategy, cardCount, games - half, random);
+            left.fork();
+            long[] histogram = right.compute();
+            long[] other = left.join();
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] += other[i];
+            }
+            return histogram;
+        }
+
+        private long[] simulate() {
+            long[] histogram = new long[MAX_BALLS + 1];
+            GameSimulator simulator = new GameSimulator(random);
+            for (int i = 0; i < games; i++) {
+                // Un único jugador con todos los cartones: el primer Bingo no depende del reparto.
+                SimulationResult result = simulator.simulate(1, cardCount, strategy);
+                histogram[result.getBallsDrawn()]++;
+            }
+            return histogram;
+        }
+    }
+}
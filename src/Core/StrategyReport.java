@@ -0,0 +1,121 @@
+package Core;
+
+/**
+ * Clase StrategyReport
+ *
+ * Resultado inmutable del {@link StrategyAnalyzer} para una estrategia de victoria y una
+ * cantidad de cartones: el histograma de "bolas cantadas hasta el primer Bingo" y sus
+ * estadísticas (media y percentiles).
+ */
+public class StrategyReport {
+    private final String strategyName;  // Nombre de la estrategia analizada.
+    private final int cardCount;        // Cartones en juego en cada partida simulada.
+    private final long[] histogram;     // histogram[n] = partidas cuyo primer Bingo llegó en la bola n.
+    private final long games;           // Total de partidas simuladas.
+
+    /**
+     * Crea un informe a partir del histograma de bolas hasta el primer Bingo.
+     *
+     * @param strategyName El nombre de la estrategia.
+     * @param cardCount El número de cartones por partida.
+     * @param histogram El histograma, indexado por número de bolas cantadas.
+     */
+    public StrategyReport(String strategyName, int cardCount, long[] histogram) {
+        this.strategyName = strategyName;
+        this.cardCount = cardCount;
+        this.histogram = histogram.clone();
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        this.games = total;
+    }
+
+    /**
+     * Obtiene el nombre de la estrategia analizada.
+     *
+     * @return El nombre de la estrategia.
+     */
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+    /**
+     * Obtiene el número de cartones en juego en cada partida simulada.
+     *
+     * @return La cantidad de cartones.
+     */
+    public int getCardCount() {
+        return cardCount;
+    }
+
+    /**
+     * Obtiene el número total de partidas simuladas.
+     *
+     * @return La cantidad de partidas.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Obtiene el histograma de bolas cantadas hasta el primer Bingo.
+     *
+     * @return Una copia del histograma; la posición n contiene las partidas que terminaron en la bola n.
+     */
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * Calcula la media de bolas cantadas hasta el primer Bingo.
+     *
+     * @return La media, o 0 si no hay partidas.
+     */
+    public double getMean() {
+        if (games == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int balls = 0; balls < histogram.length; balls++) {
+            sum += (double) balls * histogram[balls];
+        }
+        return sum / games;
+    }
+
+    /**
+     * Calcula un percentil de bolas cantadas hasta el primer Bingo
+     * (el menor número de bolas que cubre al menos esa fracción de partidas).
+     *
+     * @param percentile El percentil deseado, entre 0 y 100.
+     * @return El número de bolas correspondiente, o 0 si no hay partidas.
+     */
+    public int getPercentile(double percentile) {
+        if (games == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(games * percentile / 100.0);
+        long accumulated = 0;
+        for (int balls = 0; balls < histogram.length; balls++) {
+            accumulated += histogram[balls];
+            if (accumulated >= Math.max(1, target)) {
+                return balls;
+            }
+        }
+        return histogram.length - 1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%s | %d cartones | %d partidas | media %.2f | p50 %d | p90 %d | p99 %d%n",
+                strategyName, cardCount, games, getMean(),
+                getPercentile(50), getPercentile(90), getPercentile(99)));
+        for (int balls = 0; balls < histogram.length; balls++) {
+            if (histogram[balls] > 0) {
+                sb.append(String.format("  %2d bolas: %d%n", balls, histogram[balls]));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,213 @@
+package Core;
+
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Clase UniqueCardGenerator
+ *
+ * Generador de cartones estándar 5x5 que garantiza que no se repite ningún cartón: cada cartón
+ * emitido se registra por su codificación canónica en un conjunto, y si un cartón
+ * nuevo ya estaba registrado se descarta y se genera otro. Así dos jugadores nunca reciben el
+ * mismo cartón (y no se reparten premios por cartones idénticos).
+ *
+ * La codificación canónica aprovecha que cada columna tiene un rango de 15 números: cada una de
+ * las 24 casillas (sin la FREE) se guarda como la posición de su número dentro del rango de su
+ * columna, en 4 bits, y el cartón completo cabe en 96 bits (dos {@code long}).
+ *
+ * Los lotes pequeños (los de una partida normal o una sala) se generan en el hilo que llama,
+ * con un {@link HashSet} simple. Los lotes grandes se generan con fork/join, como en el
+ * {@link StrategyAnalyzer}: cada tarea divide su {@link SplittableRandom} al bifurcarse y escribe
+ * sus cartones en su propio tramo del lote, de modo que el resultado solo depende de la semilla
+ * (salvo en el caso, astronómicamente improbable, de que dos tareas generen a la vez el mismo
+ * cartón). El primer lote grande pasa los cartones emitidos a un conjunto concurrente. Ambos
+ * caminos producen los mismos cartones para un lote de hasta {@link #CARDS_PER_TASK} cartones.
+ * Un mismo generador no debe usarse desde varios hilos a la vez.
+ *
+ * No implementa directamente un patrón de diseño GoF; lo usa la
+ * {@link Patterns.Creational.AbstractFactory.CardFactory fábrica de cartones}.
+ */
+public class UniqueCardGenerator {
+
+    private static final int ROWS = 5;
+    private static final int COLS = 5;
+    private static final int CELLS = ROWS * COLS;
+    private static final int FREE_CELL = 2 * COLS + 2;
+
+    /**
+     * Número de cartones a partir del cual una tarea se divide en dos. Los lotes que no lo
+     * superan se generan sin pasar por el pool.
+     */
+    private static final int CARDS_PER_TASK = 4096;
+
+    /**
+     * Pool de fork/join en el que se generan los lotes.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Codificaciones canónicas de todos los cartones emitidos o registrados. Es un
+     * {@link HashSet} hasta el primer lote generado en paralelo.
+     */
+    private Set<CardKey> issued = new HashSet<>();
+
+    /**
+     * Indica si {@link #issued} ya es un conjunto concurrente.
+     */
+    private boolean concurrentIssued;
+
+    /**
+     * Crea un generador que usa el pool común (un hilo por núcleo).
+     */
+    public UniqueCardGenerator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un generador que genera los lotes en el pool indicado.
+     *
+     * @param pool El {@link ForkJoinPool} a utilizar.
+     */
+    public UniqueCardGenerator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Genera un lote de cartones distintos entre sí y de todos los emitidos antes por este
+     * generador, y los añade al final de un almacén.
+     *
+     * @param store El almacén de cartones 5x5 donde se añaden.
+     * @param count La cantidad de cartones.
+     * @param random El generador del que derivan todos los cartones del lote.
+     * @return La posición en el almacén del primer cartón del lote; los demás le siguen.
+     */
+    public int generate(CardStore store, int count, SplittableRandom random) {
+        if (store.getRows() != ROWS || store.getCols() != COLS) {
+            throw new IllegalArgumentException("Solo se generan cartones 5x5: " + store.getRows() + "x" + store.getCols());
+        }
+        byte[] batch = new byte[count * CELLS];
+        if (count <= CARDS_PER_TASK) {
+            generateRange(batch, 0, count, random); // Un solo tramo: no compensa bifurcar.
+        } else {
+            if (!concurrentIssued) {
+                Set<CardKey> shared = ConcurrentHashMap.newKeySet(issued.size() + count);
+                shared.addAll(issued);
+                issued = shared;
+                concurrentIssued = true;
+            }
+            pool.invoke(new GenerationTask(batch, 0, count, random));
+        }
+        int first = store.size();
+        ByteBuffer numbers = ByteBuffer.wrap(batch);
+        for (int i = 0; i < count; i++) {
+            store.append(numbers, i * CELLS);
+        }
+        return first;
+    }
+
+    /**
+     * Registra un cartón obtenido por otra vía (por ejemplo, de una {@link CardLibrary biblioteca}),
+     * para que el generador no vuelva a emitirlo.
+     *
+     * @param card Un cartón estándar 5x5.
+     * @return `true` si el cartón no se había emitido ni registrado antes.
+     */
+    public boolean register(Card card) {
+        if (card.getRows() != ROWS || card.getCols() != COLS) {
+            throw new IllegalArgumentException("Solo se registran cartones 5x5: " + card.getRows() + "x" + card.getCols());
+        }
+        byte[] numbers = new byte[CELLS];
+        for (int cell = 0; cell < CELLS; cell++) {
+            numbers[cell] = (byte) card.getNumber(cell / COLS, cell % COLS);
+        }
+        return issued.add(CardKey.of(numbers, 0));
+    }
+
+    /**
+     * Obtiene la cantidad de cartones distintos emitidos o registrados.
+     *
+     * @return El número de cartones.
+     */
+    public int getIssuedCount() {
+        return issued.size();
+    }
+
+    /**
+     * Genera los cartones {@code [from, to)} del lote, descartando los repetidos.
+     */
+    private void generateRange(byte[] batch, int from, int to, SplittableRandom random) {
+        for (int i = from; i < to; i++) {
+            int base = i * CELLS;
+            do {
+                Card.generateNumbers(ROWS, COLS, random, batch, base); // Directamente en el lote.
+            } while (!issued.add(CardKey.of(batch, base))); // Repetido: se genera otro en su lugar.
+        }
+    }
+
+    /**
+     * Codificación canónica de un cartón 5x5: 4 bits por casilla (sin la FREE), con la posición
+     * del número dentro del rango de 15 de su columna. Las 16 primeras casillas van en
+     * {@code high} y las 8 restantes en {@code low}.
+     */
+    private record CardKey(long high, long low) {
+
+        static CardKey of(byte[] numbers, int offset) {
+            long high = 0;
+            long low = 0;
+            int k = 0;
+            for (int cell = 0; cell < CELLS; cell++) {
+                if (cell == FREE_CELL) {
+                    continue;
+                }
+                int number = (numbers[offset + cell] & 0xFF) - 1 - 15 * (cell % COLS);
+                if (number < 0 || number > 14) {
+                    throw new IllegalArgumentException("El cartón no sigue los rangos B-I-N-G-O: " + (numbers[offset + cell] & 0xFF));
+                }
+                if (k < 16) {
+                    high |= (long) number << (4 * k);
+                } else {
+                    low |= (long) number << (4 * (k - 16));
+                }
+                k++;
+            }
+            return new CardKey(high, low);
+        }
+    }
+
+    /**
+     * Tarea de fork/join que genera un tramo del lote, descartando los cartones repetidos.
+     */
+    private final class GenerationTask extends RecursiveAction {
+        private final byte[] batch;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        private GenerationTask(byte[] batch, int from, int to, SplittableRandom random) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CARDS_PER_TASK) {
+                generateRange(batch, from, to, random);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            // El generador se divide antes de bifurcar: cada subtarea obtiene una secuencia independiente.
+            GenerationTask left = new GenerationTask(batch, from, middle, random.split());
+            GenerationTask right = new GenerationTask(batch, middle, to, random);
+            left.fork();
+            right.compute();
+            left.join();
+        }
+    }
+}
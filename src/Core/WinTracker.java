@@ -0,0 +1,273 @@
+package Core;
+
+import Patterns.Behavioral.Strategy.WinStrategy;
+import Players.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Clase WinTracker
+ *
+ * Detector incremental de victorias. Para cada cartón del {@link BallIndex} mantiene un contador
+ * de casillas pendientes por cada patrón de la {@link WinStrategy} activa
+ * (ver {@link WinStrategy#getWinMasks(int, int)}). Cada vez que se marca una casilla solo se
+ * decrementan los contadores de los patrones que pasan por ella, y el cartón se declara ganador
+ * en el instante en que alguno llega a cero.
+ *
+ * Así, comprobar la victoria cuesta O(patrones que pasan por la casilla) por acierto, en lugar de
+ * reevaluar la estrategia completa sobre todos los cartones en cada ronda.
+ *
+ * Solo ve las marcas que llegan a través de {@link #onCellMarked(int, int)}; las casillas marcadas
+ * antes de registrar el cartón se tienen en cuenta al inicializar sus contadores.
+ */
+public class WinTracker {
+
+    private final WinStrategy strategy;   // Estrategia cuyos patrones se siguen.
+    private final BallIndex ballIndex;    // Fuente de los cartones (por ordinal).
+
+    /**
+     * Disposición de patrones compartida por todos los cartones con las mismas dimensiones.
+     */
+    private final Map<Integer, Layout> layouts = new HashMap<>();
+    private Layout lastLayout;            // Última disposición usada: casi todos los cartones comparten dimensiones.
+
+    private Layout[] cardLayouts = new Layout[0]; // Disposición de cada cartón, por ordinal.
+    private int[] counterOffsets = new int[0];    // Primer contador de cada cartón en 'remaining'.
+    private byte[] remaining = new byte[0];       // Casillas pendientes por (cartón, patrón).
+    private int trackedCards;                     // Cartones del índice ya registrados.
+    private int counterCount;                     // Contadores en uso dentro de 'remaining'.
+
+    private final BitSet winningCards = new BitSet();              // Ordinales de los cartones ganadores.
+    private final Set<Player> winners = new LinkedHashSet<>();     // Ganadores en orden de victoria.
+
+    /**
+     * Crea un detector para la estrategia indicada y registra los cartones ya indexados.
+     *
+     * @param strategy La estrategia de victoria activa.
+     * @param ballIndex El índice de cartones del juego.
+     */
+    public WinTracker(WinStrategy strategy, BallIndex ballIndex) {
+        this.strategy = strategy;
+        this.ballIndex = ballIndex;
+        syncCards();
+    }
+
+    /**
+     * Registra los cartones añadidos al índice desde la última llamada,
+     * inicializando sus contadores con las casillas ya marcadas (por ejemplo, la casilla FREE).
+     */
+    public void syncCards() {
+        int total = ballIndex.getCardCount();
+        if (total == trackedCards) {
+            return;
+        }
+        cardLayouts = Arrays.copyOf(cardLayouts, total);
+        counterOffsets = Arrays.copyOf(counterOffsets, total);
+        for (int ordinal = trackedCards; ordinal < total; ordinal++) {
+            Card card = ballIndex.getCard(ordinal);
+            Layout layout = layoutFor(card.getRows(), card.getCols());
+            cardLayouts[ordinal] = layout;
+            counterOffsets[ordinal] = counterCount;
+            if (remaining.length < counterCount + layout.masks.length) {
+                remaining = Arrays.copyOf(remaining, Math.max(64, (counterCount + layout.masks.length) * 2));
+            }
+            long marked = card.getMarkedMask();
+            for (int p = 0; p < layout.masks.length; p++) {
+                int pending = Long.bitCount(layout.masks[p] & ~marked);
+                remaining[counterCount + p] = (byte) pending;
+                if (pending == 0) {
+                    declareWinner(ordinal);
+                }
+            }
+            counterCount += layout.masks.length;
+        }
+        trackedCards = total;
+    }
+
+    /**
+     * Notifica que una casilla de un cartón acaba de marcarse por primera vez.
+     *
+     * @param ordinal El ordinal del cartón en el {@link BallIndex}.
+     * @param cell El índice de la casilla marcada.
+     * @return `true` si esta marca completó un patrón y el cartón pasó a ser ganador.
+     */
+    public boolean onCellMarked(int ordinal, int cell) {
+        if (ordinal >= trackedCards) {
+            return false; // Cartón aún no registrado.
+        }
+        int offset = counterOffsets[ordinal];
+        boolean won = false;
+        for (int p : cardLayouts[ordinal].patternsByCell[cell]) {
+            if (--remaining[offset + p] == 0) {
+                won = true;
+            }
+        }
+        if (won && !winningCards.get(ordinal)) {
+            declareWinner(ordinal);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Registra un cartón como ganador y a su dueño en la lista de ganadores.
+     */
+    private void declareWinner(int ordinal) {
+        winningCards.set(ordinal);
+        winners.add(ballIndex.getOwner(ordinal));
+    }
+
+    /**
+     * Obtiene (o calcula la primera vez) la disposición de patrones para unas dimensiones.
+     */
+    private Layout layoutFor(int rows, int cols) {
+        if (lastLayout == null || lastLayout.rows != rows || lastLayout.cols != cols) {
+            lastLayout = layouts.computeIfAbsent(rows * 64 + cols, key -> new Layout(strategy.getWinMasks(rows, cols), rows, cols));
+        }
+        return lastLayout;
+    }
+
+    /**
+     * Indica si algún cartón del jugador ha completado un patrón.
+     *
+     * @param player El jugador a consultar.
+     * @return `true` si el jugador tiene al menos un cartón ganador.
+     */
+    public boolean hasWon(Player player) {
+        return winners.contains(player);
+    }
+
+    /**
+     * Indica si el cartón con el ordinal indicado ha completado un patrón.
+     *
+     * @param ordinal El ordinal del cartón en el {@link BallIndex}.
+     * @return `true` si el cartón es ganador.
+     */
+    public boolean isWinningCard(int ordinal) {
+        return winningCards.get(ordinal);
+    }
+
+    /**
+     * Obtiene los jugadores ganadores en el orden en que completaron su patrón.
+     *
+     * @return Una lista inmutable de ganadores (vacía si aún no hay ninguno).
+     */
+    public List<Player> getWinners() {
+        return Collections.unmodifiableList(new ArrayList<>(winners));
+    }
+
+    /**
+     * Obtiene cuántos jugadores han hecho Bingo hasta ahora, sin copiar la lista de ganadores.
+     *
+     * @return La cantidad de ganadores.
+     */
+    public int getWinnerCount() {
+        return winners.size();
+    }
+
+    /**
+     * Indica si ya hay al menos un ganador.
+     *
+     * @return `true` si algún cartón ha completado un patrón.
+     */
+    public boolean hasWinner() {
+        return !winningCards.isEmpty();
+    }
+
+    /**
+     * Ordena los ganadores como si las bolas se hubieran cantado una a una: por la ronda en la que
+     * cada cartón completó su primer patrón y, dentro de una ronda, por ordinal (el orden en que el
+     * {@link BallIndex} marca los cartones). Se usa cuando los cartones se marcaron de una vez
+     * antes de registrarlos, ya que entonces {@link #syncCards()} los declara solo por ordinal.
+     *
+     * @param roundOfBall La ronda en la que se cantó cada bola, o -1 si no se cantó.
+     */
+    void orderWinnersByRound(int[] roundOfBall) {
+        int[] ordinals = winningCards.stream().toArray();
+        long[] keys = new long[ordinals.length];
+        for (int i = 0; i < ordinals.length; i++) {
+            keys[i] = ((long) winningRound(ordinals[i], roundOfBall) << 32) | ordinals[i];
+        }
+        Arrays.sort(keys);
+        winners.clear();
+        for (long key : keys) {
+            winners.add(ballIndex.getOwner((int) key));
+        }
+    }
+
+    /**
+     * Calcula la ronda en la que un cartón ganador completó su primer patrón
+     * (la casilla FREE cuenta como marcada desde el principio).
+     */
+    private int winningRound(int ordinal, int[] roundOfBall) {
+        Card card = ballIndex.getCard(ordinal);
+        int best = Integer.MAX_VALUE;
+        for (long pattern : cardLayouts[ordinal].masks) {
+            if ((card.getMarkedMask() & pattern) != pattern) {
+                continue;
+            }
+            int completedAt = -1;
+            for (long cells = pattern; cells != 0; cells &= cells - 1) {
+                int cell = Long.numberOfTrailingZeros(cells);
+                int number = card.getNumber(cell / card.getCols(), cell % card.getCols());
+                if (number > 0 && number < roundOfBall.length) {
+                    completedAt = Math.max(completedAt, roundOfBall[number]);
+                }
+            }
+            best = Math.min(best, completedAt);
+        }
+        return best;
+    }
+
+    /**
+     * Obtiene la estrategia de victoria seguida por este detector.
+     *
+     * @return La {@link WinStrategy} activa.
+     */
+    public WinStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Patrones de la estrategia para unas dimensiones concretas, junto con la lista
+     * de patrones que pasan por cada casilla.
+     */
+    private static final class Layout {
+        private final long[] masks;
+        private final int[][] patternsByCell;
+        private final int rows;
+        private final int cols;
+
+        private Layout(long[] masks, int rows, int cols) {
+            int cells = rows * cols;
+            this.masks = masks;
+            this.rows = rows;
+            this.cols = cols;
+            this.patternsByCell = new int[cells][];
+            for (int cell = 0; cell < cells; cell++) {
+                int count = 0;
+                for (long mask : masks) {
+                    if ((mask & (1L << cell)) != 0) {
+                        count++;
+                    }
+                }
+                int[] patterns = new int[count];
+                int k = 0;
+                for (int p = 0; p < masks.length; p++) {
+                    if ((masks[p] & (1L << cell)) != 0) {
+                        patterns[k++] = p;
+                    }
+                }
+                patternsByCell[cell] = patterns;
+            }
+        }
+    }
+}
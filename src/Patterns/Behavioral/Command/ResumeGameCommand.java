@@ -0,0 +1,61 @@
+package Patterns.Behavioral.Command;
+
+import Patterns.Structural.Facade.GameFacade;
+import UI.GameWindowGUI;
+import UI.PlayerRegistrationGUI;
+
+import javax.swing.*;
+import java.io.IOException;
+
+/**
+ * Clase ResumeGameCommand
+ *
+ * Implementación concreta de la interfaz Command.
+ * Este comando encapsula la acción de reanudar la partida guardada en la última
+ * instantánea ({@link GameWindowGUI#SNAPSHOT_FILE}), por ejemplo tras reiniciar la aplicación.
+ *
+ * Rol en el patrón Command: Concrete Command (Comando Concreto)
+ * - Encapsula la solicitud de reanudar la partida.
+ * - Almacena la referencia a la ventana actual (`currentFrame`), que se oculta al abrir
+ * la ventana del juego con la partida restaurada.
+ */
+public class ResumeGameCommand implements Command {
+
+    /**
+     * El JFrame actual que se va a ocultar al reanudar la partida.
+     */
+    private JFrame currentFrame;
+
+    /**
+     * Constructor para ResumeGameCommand.
+     *
+     * @param currentFrame El JFrame que está visible actualmente.
+     */
+    public ResumeGameCommand(JFrame currentFrame) {
+        this.currentFrame = currentFrame;
+    }
+
+    /**
+     * Ejecuta el comando para reanudar la partida: la restaura desde su instantánea, vuelve a
+     * conectar el diario de partidas y abre la ventana del juego. Si la instantánea no se puede
+     * leer, se informa al usuario y el menú sigue visible.
+     */
+    @Override
+    public void execute() {
+        GameFacade facade;
+        try {
+            facade = GameFacade.resume(GameWindowGUI.SNAPSHOT_FILE);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(currentFrame, "No se pudo reanudar la partida guardada: " + e.getMessage());
+            return;
+        }
+        try {
+            facade.continueJournal(PlayerRegistrationGUI.JOURNAL_FILE); // La partida reanudada se sigue registrando.
+        } catch (IOException e) {
+            e.printStackTrace(); // La partida se juega igualmente, aunque sin registrar.
+        }
+
+        currentFrame.setVisible(false);
+        new GameWindowGUI(facade).setVisible(true);
+    }
+}
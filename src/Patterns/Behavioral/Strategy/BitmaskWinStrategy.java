@@ -0,0 +1,148 @@
+package Patterns.Behavioral.Strategy;
+
+import Core.Card;
+
+/**
+ * Clase abstracta BitmaskWinStrategy
+ *
+ * Base común para las estrategias de victoria que se expresan como un conjunto fijo de
+ * patrones de casillas. Cada patrón se representa como una máscara de bits con el mismo
+ * formato que {@link Card#getMarkedMask()}, de modo que comprobar la victoria de un cartón
+ * se reduce a una operación `(marcadas & patron) == patron` por patrón, sin recorrer la matriz.
+ *
+ * Rol en el patrón Strategy: Concrete Strategy (base)
+ * - Implementa {@link #checkWin(Card)} una sola vez para todas las estrategias.
+ * - Aplica el patrón Template Method: las subclases solo definen {@link #buildWinMasks(int, int)}.
+ */
+public abstract class BitmaskWinStrategy implements WinStrategy {
+
+    /**
+     * Máscaras calculadas para las últimas dimensiones solicitadas.
+     * Se reemplaza de forma atómica, por lo que puede leerse desde varios hilos.
+     */
+    private volatile MaskCache cache;
+
+    /**
+     * Comprueba si alguno de los patrones de la estrategia está completamente marcado en el cartón.
+     *
+     * @param card El cartón de Bingo a verificar.
+     * @return true si el cartón ha completado algún patrón, false en caso contrario.
+     */
+    @Override
+    public boolean checkWin(Card card) {
+        long marked = card.getMarkedMask();
+        for (long pattern : getWinMasks(card.getRows(), card.getCols())) {
+            if ((marked & pattern) == pattern) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Devuelve las máscaras de los patrones de victoria, calculándolas solo cuando cambian
+     * las dimensiones del cartón (en la práctica, una única vez para cartones 5x5).
+     *
+     * @param rows El número de filas del cartón.
+     * @param cols El número de columnas del cartón.
+     * @return Las máscaras de los patrones ganadores.
+     */
+    @Override
+    public long[] getWinMasks(int rows, int cols) {
+        MaskCache current = cache;
+        if (current == null || current.rows != rows || current.cols != cols) {
+            current = new MaskCache(rows, cols, buildWinMasks(rows, cols));
+            cache = current;
+        }
+        return current.masks;
+    }
+
+    /**
+     * Construye las máscaras de los patrones ganadores para un cartón de las dimensiones dadas.
+     *
+     * @param rows El número de filas del cartón.
+     * @param cols El número de columnas del cartón.
+     * @return Un array con una máscara por patrón ganador.
+     */
+    protected abstract long[] buildWinMasks(int rows, int cols);
+
+    /**
+     * Máscara de una fila completa.
+     *
+     * @param row La fila.
+     * @param cols El número de columnas del cartón.
+     * @return La máscara con todas las casillas de la fila.
+     */
+    protected static long rowMask(int row, int cols) {
+        long mask = 0L;
+        for (int j = 0; j < cols; j++) {
+            mask |= Card.cellMask(row, j, cols);
+        }
+        return mask;
+    }
+
+    /**
+     * Máscara de una columna completa.
+     *
+     * @param col La columna.
+     * @param rows El número de filas del cartón.
+     * @param cols El número de columnas del cartón.
+     * @return La máscara con todas las casillas de la columna.
+     */
+    protected static long colMask(int col, int rows, int cols) {
+        long mask = 0L;
+        for (int i = 0; i < rows; i++) {
+            mask |= Card.cellMask(i, col, cols);
+        }
+        return mask;
+    }
+
+    /**
+     * Máscara de la diagonal principal (de arriba izquierda a abajo derecha).
+     * Para cartones no cuadrados se usa el lado menor.
+     *
+     * @param rows El número de filas del cartón.
+     * @param cols El número de columnas del cartón.
+     * @return La máscara de la diagonal principal.
+     */
+    protected static long primaryDiagonalMask(int rows, int cols) {
+        long mask = 0L;
+        int size = Math.min(rows, cols);
+        for (int i = 0; i < size; i++) {
+            mask |= Card.cellMask(i, i, cols);
+        }
+        return mask;
+    }
+
+    /**
+     * Máscara de la diagonal secundaria (de arriba derecha a abajo izquierda).
+     * Para cartones no cuadrados se usa el lado menor.
+     *
+     * @param rows El número de filas del cartón.
+     * @param cols El número de columnas del cartón.
+     * @return La máscara de la diagonal secundaria.
+     */
+    protected static long secondaryDiagonalMask(int rows, int cols) {
+        long mask = 0L;
+        int size = Math.min(rows, cols);
+        for (int i = 0; i < size; i++) {
+            mask |= Card.cellMask(i, size - 1 - i, cols);
+        }
+        return mask;
+    }
+
+    /**
+     * Contenedor inmutable de las máscaras calculadas para unas dimensiones concretas.
+     */
+    private static final class MaskCache {
+        private final int rows;
+        private final int cols;
+        private final long[] masks;
+
+        private MaskCache(int rows, int cols, long[] masks) {
+            this.rows = rows;
+            this.cols = cols;
+            this.masks = masks;
+        }
+    }
+}
@@ -2,8 +2,6 @@
 // Archivo: DiagonalWinStrategy.java
 package Patterns.Behavioral.Strategy;
 
-import Core.Card;
-
 /**
  * Clase DiagonalWinStrategy
  *
@@ -15,43 +13,23 @@ import Core.Card;
  * - Implementa el algoritmo definido por la interfaz {@link WinStrategy}.
  * - Este algoritmo es intercambiable con otras estrategias de victoria (ej., {@link HorizontalWinStrategy}).
  */
-public class DiagonalWinStrategy implements WinStrategy {
+public class DiagonalWinStrategy extends BitmaskWinStrategy {
 
     /**
-     * Comprueba si el {@link Card cartón} proporcionado ha logrado una victoria
-     * marcando todos los números en alguna de sus diagonales (principal o secundaria).
+     * Construye las máscaras de las dos diagonales del cartón.
+     * El cartón gana si todos los números de la diagonal principal (0,0 -> N-1,N-1)
+     * o de la diagonal secundaria (0,N-1 -> N-1,0) están marcados.
      *
-     * @param card El cartón de Bingo a verificar.
-     * @return true si el cartón ha logrado una victoria por diagonal, false en caso contrario.
-     * Retorna true si todos los números en la diagonal principal (0,0 -> N-1,N-1)
-     * o en la diagonal secundaria (0,N-1 -> N-1,0) están marcados.
+     * @param rows El número de filas del cartón (se asume filas == columnas).
+     * @param cols El número de columnas del cartón.
+     * @return Las máscaras de la diagonal principal y de la secundaria.
      */
     @Override
-    public boolean checkWin(Card card) {
-        // Suponemos que el cartón es cuadrado (ej., 5x5) para las diagonales.
-        // El tamaño se obtiene del número de filas, asumiendo que filas == columnas.
-        int size = card.getRows();
-        boolean[][] marked = card.getMarked();
-
-        // Bandera para la diagonal principal (de arriba izquierda a abajo derecha)
-        boolean primaryDiagonal = true;
-        // Bandera para la diagonal secundaria (de arriba derecha a abajo izquierda)
-        boolean secondaryDiagonal = true;
-
-        // Itera a través del cartón para verificar ambas diagonales
-        for (int i = 0; i < size; i++) {
-            // Verifica la diagonal principal: (0,0), (1,1), (2,2), etc.
-            if (!marked[i][i]) {
-                primaryDiagonal = false; // Si un número no está marcado, la diagonal principal no está completa
-            }
-            // Verifica la diagonal secundaria: (0, size-1), (1, size-2), etc.
-            if (!marked[i][size - 1 - i]) {
-                secondaryDiagonal = false; // Si un número no está marcado, la diagonal secundaria no está completa
-            }
-        }
-
-        // Retorna true si al menos una de las diagonales está completamente marcada
-        return primaryDiagonal || secondaryDiagonal;
+    protected long[] buildWinMasks(int rows, int cols) {
+        return new long[] {
+                primaryDiagonalMask(rows, cols),   // Diagonal principal: (0,0), (1,1), (2,2), etc.
+                secondaryDiagonalMask(rows, cols)  // Diagonal secundaria: (0, size-1), (1, size-2), etc.
+        };
     }
 
     /**
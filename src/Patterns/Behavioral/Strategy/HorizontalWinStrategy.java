@@ -1,7 +1,5 @@
 package Patterns.Behavioral.Strategy;
 
-import Core.Card;
-
 /**
  * Clase HorizontalWinStrategy
  *
@@ -13,39 +11,23 @@ import Core.Card;
  * - Implementa el algoritmo definido por la interfaz {@link WinStrategy}.
  * - Este algoritmo es intercambiable con otras estrategias de victoria (ej., {@link DiagonalWinStrategy}).
  */
-public class HorizontalWinStrategy implements WinStrategy {
+public class HorizontalWinStrategy extends BitmaskWinStrategy {
 
     /**
-     * Comprueba si el {@link Card cartón} proporcionado ha logrado una victoria
-     * marcando todos los números en al menos una de sus filas horizontales.
+     * Construye una máscara por cada fila horizontal del cartón.
+     * El cartón gana cuando todos los números de al menos una fila están marcados.
      *
-     * @param card El cartón de Bingo a verificar.
-     * @return true si el cartón ha logrado una victoria por línea horizontal, false en caso contrario.
+     * @param rows El número de filas del cartón.
+     * @param cols El número de columnas del cartón.
+     * @return Una máscara por fila.
      */
     @Override
-    public boolean checkWin(Card card) {
-        int rows = card.getRows(); // Obtiene el número de filas del cartón
-        int cols = card.getCols(); // Obtiene el número de columnas del cartón
-        boolean[][] marked = card.getMarked(); // Obtiene la matriz de estados de marcado del cartón
-
-        // Itera sobre cada fila del cartón
+    protected long[] buildWinMasks(int rows, int cols) {
+        long[] masks = new long[rows];
         for (int i = 0; i < rows; i++) {
-            boolean complete = true; // Bandera para indicar si la fila actual está completa
-            // Itera sobre cada columna en la fila actual
-            for (int j = 0; j < cols; j++) {
-                // Si algún número en la fila no está marcado, la fila no está completa
-                if (!marked[i][j]) {
-                    complete = false;
-                    break; // No es necesario revisar el resto de la fila
-                }
-            }
-            // Si la fila actual está completa (todos los números marcados), el cartón ha ganado
-            if (complete) {
-                return true;
-            }
+            masks[i] = rowMask(i, cols); // Todas las casillas de la fila i
         }
-        // Si ninguna fila horizontal está completamente marcada después de revisar todas, el cartón no ha ganado
-        return false;
+        return masks;
     }
 
     /**
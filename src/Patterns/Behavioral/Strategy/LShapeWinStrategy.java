@@ -1,7 +1,5 @@
 package Patterns.Behavioral.Strategy;
 
-import Core.Card;
-
 /**
  * Clase LShapeWinStrategy
  *
@@ -17,68 +15,23 @@ import Core.Card;
  * - Es una de las múltiples estrategias que pueden ser utilizadas de forma intercambiable
  * para determinar la victoria en un cartón.
  */
-public class LShapeWinStrategy implements WinStrategy {
+public class LShapeWinStrategy extends BitmaskWinStrategy {
 
     /**
-     * Comprueba si el {@link Card cartón} proporcionado ha logrado una victoria
-     * formando una "L" (columna izquierda + fila inferior) o una "L" invertida
+     * Construye las máscaras de las dos formas de "L" admitidas:
+     * la "L" (columna izquierda + fila inferior) y la "L" invertida
      * (columna derecha + fila superior).
      *
-     * @param card El cartón de Bingo a verificar.
-     * @return true si el cartón ha logrado una victoria en forma de 'L', false en caso contrario.
+     * @param rows El número de filas del cartón.
+     * @param cols El número de columnas del cartón.
+     * @return Las máscaras de ambas formas de 'L'.
      */
     @Override
-    public boolean checkWin(Card card) {
-        int rows = card.getRows(); // Obtiene el número de filas del cartón
-        int cols = card.getCols(); // Obtiene el número de columnas del cartón
-        boolean[][] marked = card.getMarked(); // Obtiene la matriz de estados de marcado del cartón
-
-        // --- Patrón L invertida: Columna izquierda (j=0) y Fila inferior (i=rows-1) ---
-        boolean leftColBottomRow = true;
-
-        // Verificar la columna izquierda
-        for (int i = 0; i < rows; i++) {
-            if (!marked[i][0]) { // Si algún número en la primera columna no está marcado
-                leftColBottomRow = false; // La "L" invertida no está completa
-                break; // No es necesario revisar el resto de la columna
-            }
-        }
-
-        // Si la columna izquierda está marcada, verificar la fila inferior
-        // Solo verificamos si leftColBottomRow aún es true, para optimizar.
-        if (leftColBottomRow) {
-            for (int j = 0; j < cols; j++) {
-                if (!marked[rows - 1][j]) { // Si algún número en la última fila no está marcado
-                    leftColBottomRow = false; // La "L" invertida no está completa
-                    break; // No es necesario revisar el resto de la fila
-                }
-            }
-        }
-
-        // --- Patrón L normal: Columna derecha (j=cols-1) y Fila superior (i=0) ---
-        boolean rightColTopRow = true;
-
-        // Verificar la columna derecha
-        for (int i = 0; i < rows; i++) {
-            if (!marked[i][cols - 1]) { // Si algún número en la última columna no está marcado
-                rightColTopRow = false; // La "L" normal no está completa
-                break; // No es necesario revisar el resto de la columna
-            }
-        }
-
-        // Si la columna derecha está marcada, verificar la fila superior
-        // Solo verificamos si rightColTopRow aún es true, para optimizar.
-        if (rightColTopRow) {
-            for (int j = 0; j < cols; j++) {
-                if (!marked[0][j]) { // Si algún número en la primera fila no está marcado
-                    rightColTopRow = false; // La "L" normal no está completa
-                    break; // No es necesario revisar el resto de la fila
-                }
-            }
-        }
-
-        // El cartón gana si se cumple cualquiera de las dos condiciones de "L"
-        return leftColBottomRow || rightColTopRow;
+    protected long[] buildWinMasks(int rows, int cols) {
+        return new long[] {
+                colMask(0, rows, cols) | rowMask(rows - 1, cols),       // Columna izquierda (j=0) + fila inferior (i=rows-1)
+                colMask(cols - 1, rows, cols) | rowMask(0, cols)        // Columna derecha (j=cols-1) + fila superior (i=0)
+        };
     }
 
     /**
@@ -1,7 +1,5 @@
 package Patterns.Behavioral.Strategy;
 
-import Core.Card;
-
 /**
  * Clase VerticalWinStrategy
  *
@@ -13,39 +11,23 @@ import Core.Card;
  * - Implementa el algoritmo definido por la interfaz {@link WinStrategy}.
  * - Este algoritmo es intercambiable con otras estrategias de victoria (ej., {@link HorizontalWinStrategy}).
  */
-public class VerticalWinStrategy implements WinStrategy {
+public class VerticalWinStrategy extends BitmaskWinStrategy {
 
     /**
-     * Comprueba si el {@link Card cartón} proporcionado ha logrado una victoria
-     * marcando todos los números en al menos una de sus columnas verticales.
+     * Construye una máscara por cada columna vertical del cartón.
+     * El cartón gana cuando todos los números de al menos una columna están marcados.
      *
-     * @param card El cartón de Bingo a verificar.
-     * @return true si el cartón ha logrado una victoria por línea vertical, false en caso contrario.
+     * @param rows El número de filas del cartón.
+     * @param cols El número de columnas del cartón.
+     * @return Una máscara por columna.
      */
     @Override
-    public boolean checkWin(Card card) {
-        int rows = card.getRows(); // Obtiene el número de filas del cartón
-        int cols = card.getCols(); // Obtiene el número de columnas del cartón
-        boolean[][] marked = card.getMarked(); // Obtiene la matriz de estados de marcado del cartón
-
-        // Itera sobre cada columna del cartón
+    protected long[] buildWinMasks(int rows, int cols) {
+        long[] masks = new long[cols];
         for (int j = 0; j < cols; j++) {
-            boolean complete = true; // Bandera para indicar si la columna actual está completa
-            // Itera sobre cada fila en la columna actual
-            for (int i = 0; i < rows; i++) {
-                // Si algún número en la columna no está marcado, la columna no está completa
-                if (!marked[i][j]) {
-                    complete = false;
-                    break; // No es necesario revisar el resto de la columna
-                }
-            }
-            // Si la columna actual está completa (todos los números marcados), el cartón ha ganado
-            if (complete) {
-                return true;
-            }
+            masks[j] = colMask(j, rows, cols); // Todas las casillas de la columna j
         }
-        // Si ninguna columna vertical está completamente marcada después de revisar todas, el cartón no ha ganado
-        return false;
+        return masks;
     }
 
     /**
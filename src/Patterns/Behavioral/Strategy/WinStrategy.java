@@ -2,6 +2,9 @@ package Patterns.Behavioral.Strategy;
 
 import Core.Card;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Interfaz WinStrategy
  *
@@ -25,6 +28,51 @@ public interface WinStrategy {
      */
     boolean checkWin(Card card);
 
+    /**
+     * Obtiene los patrones de victoria de esta estrategia como máscaras de bits
+     * compatibles con {@link Card#getMarkedMask()}.
+     * Un cartón gana si alguna de las máscaras está completamente contenida en su máscara de marcado.
+     *
+     * La implementación por defecto deduce las máscaras de {@link #checkWin(Card)}, probándolo
+     * sobre cartones de prueba con distintas casillas marcadas: encuentra todos los conjuntos
+     * mínimos de casillas con los que se gana. Solo supone que marcar más casillas nunca hace
+     * perder una victoria. Cuesta del orden de miles de llamadas a {@code checkWin} por
+     * dimensión de cartón (el juego la pide una vez por dimensión), así que las estrategias
+     * que conocen sus patrones deberían devolverlos directamente, como {@link BitmaskWinStrategy}.
+     *
+     * @param rows El número de filas del cartón.
+     * @param cols El número de columnas del cartón.
+     * @return Las máscaras de los patrones ganadores (no debe modificarse).
+     */
+    default long[] getWinMasks(int rows, int cols) {
+        int cells = rows * cols;
+        long all = (cells == Long.SIZE) ? -1L : (1L << cells) - 1;
+        int[] numbers = new int[cells];
+        for (int cell = 0; cell < cells; cell++) {
+            numbers[cell] = cell + 1; // Números distintos: solo importan las marcas.
+        }
+        if (rows == 5 && cols == 5) {
+            numbers[2 * cols + 2] = 0; // Casilla FREE, siempre marcada.
+        }
+        if (!winsWith(this, numbers, rows, cols, all)) {
+            return new long[0]; // Ni con todo marcado se gana.
+        }
+        List<Long> masks = new ArrayList<>();
+        masks.add(minimalWin(this, numbers, rows, cols, all));
+        if (masks.get(0) != 0) {
+            // Cada nueva victoria mínima tiene que dejar fuera al menos una casilla de cada patrón ya encontrado.
+            long next;
+            while ((next = winOutside(this, numbers, rows, cols, all, masks, 0L, 0L)) != 0) {
+                masks.add(minimalWin(this, numbers, rows, cols, next));
+            }
+        }
+        long[] result = new long[masks.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = masks.get(i);
+        }
+        return result;
+    }
+
     /**
      * Obtiene el nombre descriptivo de esta estrategia de victoria.
      * Esto es útil para mostrar al usuario qué tipo de victoria se ha conseguido (ej. "Línea horizontal").
@@ -32,4 +80,56 @@ public interface WinStrategy {
      * @return Una cadena que representa el nombre de la estrategia de victoria.
      */
     String getName();
+
+    /**
+     * Indica si la estrategia da por ganador un cartón de prueba con las casillas de la máscara marcadas.
+     */
+    private static boolean winsWith(WinStrategy strategy, int[] numbers, int rows, int cols, long mask) {
+        Card probe = new Card(numbers, rows, cols);
+        probe.markCells(mask);
+        return strategy.checkWin(probe);
+    }
+
+    /**
+     * Reduce una máscara ganadora a un patrón mínimo: quita casillas mientras se siga ganando.
+     */
+    private static long minimalWin(WinStrategy strategy, int[] numbers, int rows, int cols, long winning) {
+        long mask = winning;
+        for (long rest = winning; rest != 0; rest &= rest - 1) {
+            long cell = rest & -rest;
+            if (winsWith(strategy, numbers, rows, cols, mask & ~cell)) {
+                mask &= ~cell;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Busca una máscara ganadora que no contenga ninguno de los patrones encontrados: quita una
+     * casilla de cada patrón (de todas las formas posibles) y prueba con el resto del cartón.
+     * Las casillas de {@code kept} ya se probaron a quitar en otra rama y aquí se conservan, para
+     * no generar el mismo conjunto de casillas quitadas dos veces.
+     *
+     * @return La máscara ganadora, o 0 si no queda ningún patrón por encontrar.
+     */
+    private static long winOutside(WinStrategy strategy, int[] numbers, int rows, int cols,
+                                   long all, List<Long> masks, long removed, long kept) {
+        for (long mask : masks) {
+            if ((mask & removed) == 0) {
+                // Este patrón sigue completo: hay que quitarle alguna casilla.
+                long branchKept = kept;
+                for (long rest = mask & ~kept; rest != 0; rest &= rest - 1) {
+                    long cell = rest & -rest;
+                    long found = winOutside(strategy, numbers, rows, cols, all, masks, removed | cell, branchKept);
+                    if (found != 0) {
+                        return found;
+                    }
+                    branchKept |= cell;
+                }
+                return 0;
+            }
+        }
+        long candidate = all & ~removed;
+        return winsWith(strategy, numbers, rows, cols, candidate) ? candidate : 0;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package Patterns.Creational.AbstractFactory;
+
+import Core.BallCaller;
+import Core.DrawSequence;
+import Core.ShuffledDrawSequence;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Clase BallCallerFactory
+ *
+ * Implementa el patrón de diseño Factory Method para la creación de objetos {@link Core.BallCaller}
+ * y de las {@link Core.DrawSequence secuencias de bolas} que cantan. Cada llamada devuelve un
+ * producto nuevo e independiente, con su propio rango y su propio orden de extracción, lo que
+ * permite tener varias partidas simultáneas (o variantes como el Bingo de 90 bolas) en la misma
+ * JVM. El {@link Core.Game juego} obtiene de aquí su secuencia de bolas. Sustituye al antiguo
+ * acceso Singleton {@link Core.BallCaller#getInstance(int, int)}.
+ *
+ * Rol en el patrón Factory Method: Concrete Creator (Creador Concreto)
+ * - Implementa los métodos de fábrica que producen instancias del {@link Core.BallCaller producto}.
+ * - Al igual que {@link CardFactory}, no existe una interfaz `Creator` explícita.
+ */
+public class BallCallerFactory {
+    /**
+     * Número de bolas del Bingo estándar (americano).
+     */
+    public static final int STANDARD_BALLS = 75;
+
+    /**
+     * Número de bolas de la variante de 90 bolas.
+     */
+    public static final int NINETY_BALLS = 90;
+
+    /**
+     * Crea una secuencia mezclada con todas las bolas del rango indicado.
+     *
+     * @param minNum El número de bola más bajo.
+     * @param maxNum El número de bola más alto.
+     * @param random El generador con el que se mezclan las bolas.
+     * @return Una nueva {@link Core.DrawSequence} con el historial vacío.
+     *
+     * Rol en el patrón Factory Method: Factory Method (Método de Fábrica)
+     */
+    public DrawSequence createDrawSequence(int minNum, int maxNum, RandomGenerator random) {
+        return new ShuffledDrawSequence(minNum, maxNum, random);
+    }
+
+    /**
+     * Crea la secuencia de bolas del Bingo estándar (bolas del 1 al 75).
+     *
+     * @param random El generador con el que se mezclan las bolas.
+     * @return Una nueva {@link Core.DrawSequence} de 75 bolas.
+     */
+    public DrawSequence createStandardDrawSequence(RandomGenerator random) {
+        return createDrawSequence(1, STANDARD_BALLS, random);
+    }
+
+    /**
+     * Crea un bolillero para el rango de bolas indicado.
+     *
+     * @param minNum El número de bola más bajo.
+     * @param maxNum El número de bola más alto.
+     * @param random El generador con el que se mezclan las bolas.
+     * @return Un nuevo {@link Core.BallCaller} independiente.
+     *
+     * Rol en el patrón Factory Method: Factory Method (Método de Fábrica)
+     */
+    public BallCaller createBallCaller(int minNum, int maxNum, RandomGenerator random) {
+        return new BallCaller(createDrawSequence(minNum, maxNum, random), minNum, maxNum);
+    }
+
+    /**
+     * Crea un bolillero para el rango de bolas indicado con un generador propio.
+     *
+     * @param minNum El número de bola más bajo.
+     * @param maxNum El número de bola más alto.
+     * @return Un nuevo {@link Core.BallCaller} independiente.
+     */
+    public BallCaller createBallCaller(int minNum, int maxNum) {
+        return createBallCaller(minNum, maxNum, new Random());
+    }
+
+    /**
+     * Crea un bolillero de Bingo estándar (bolas del 1 al 75).
+     *
+     * @param random El generador con el que se mezclan las bolas.
+     * @return Un nuevo {@link Core.BallCaller} de 75 bolas.
+     */
+    public BallCaller createStandardBallCaller(RandomGenerator random) {
+        return createBallCaller(1, STANDARD_BALLS, random);
+    }
+
+    /**
+     * Crea un bolillero de Bingo estándar (bolas del 1 al 75) con un generador propio.
+     *
+     * @return Un nuevo {@link Core.BallCaller} de 75 bolas.
+     */
+    public BallCaller createStandardBallCaller() {
+        return createStandardBallCaller(new Random());
+    }
+
+    /**
+     * Crea un bolillero para la variante de 90 bolas (bolas del 1 al 90).
+     *
+     * @return Un nuevo {@link Core.BallCaller} de 90 bolas.
+     */
+    public BallCaller createNinetyBallCaller() {
+        return createBallCaller(1, NINETY_BALLS, new Random());
+    }
+}
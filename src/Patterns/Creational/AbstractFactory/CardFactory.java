@@ -1,10 +1,14 @@
 package Patterns.Creational.AbstractFactory; 
 
 import Core.Card;
+import Core.CardLibrary;
+import Core.CardStore;
+import Core.UniqueCardGenerator;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Clase CardFactory
@@ -20,13 +24,92 @@ import java.util.Random;
  * para producir instancias del {@link Core.Card producto}.
  * - En este caso, no hay una interfaz `Creator` explícita, sino que `CardFactory`
  * es la clase que directamente proporciona los métodos de fábrica.
+ *
+ * En modo biblioteca, los cartones por defecto no se generan: se asignan de una
+ * {@link CardLibrary biblioteca de cartones pre-impresos}, por orden de número de serie.
  */
 public class CardFactory {
     /**
-     * Instancia de Random para la generación de números aleatorios,
-     * utilizada en la creación de cartones con números en rangos específicos.
+     * Generador de números aleatorios de los cartones, o {@code null} para usar el
+     * {@link ThreadLocalRandom} del hilo que crea cada cartón.
+     */
+    private final RandomGenerator random;
+
+    /**
+     * Almacén compacto donde se guardan los cartones creados, o {@code null} si cada cartón
+     * tiene el suyo propio.
+     */
+    private final CardStore store;
+
+    /**
+     * Biblioteca de la que se asignan los cartones por defecto, o {@code null} si se generan al azar.
+     */
+    private final CardLibrary library;
+
+    /**
+     * Número de serie del próximo cartón que se asignará de la biblioteca.
      */
-    private final Random random = new Random();
+    private long nextSerial;
+
+    /**
+     * Generador que recuerda los cartones emitidos por {@link #createUniqueDefaultCards(int)},
+     * para no repetir ninguno. Se crea al pedir el primer lote.
+     */
+    private UniqueCardGenerator uniqueGenerator;
+
+    /**
+     * Crea una fábrica de cartones que usa el generador aleatorio del hilo que crea cada cartón
+     * ({@link ThreadLocalRandom}): rápido, sin contención y sin crear generadores nuevos.
+     */
+    public CardFactory() {
+        this((RandomGenerator) null);
+    }
+
+    /**
+     * Crea una fábrica de cartones que usa el generador indicado para todos sus cartones.
+     * Útil cuando cada hilo debe tener su propio generador (por ejemplo, un {@link java.util.SplittableRandom}).
+     *
+     * @param random El generador de números aleatorios a utilizar.
+     */
+    public CardFactory(RandomGenerator random) {
+        this(random, null);
+    }
+
+    /**
+     * Crea una fábrica de cartones que guarda los cartones con las dimensiones del almacén
+     * en ese {@link CardStore} compartido, en lugar de darle a cada uno sus propios arrays.
+     * Es la forma de crear los cartones de sesiones grandes sin multiplicar los objetos.
+     *
+     * @param random El generador de números aleatorios a utilizar.
+     * @param store El almacén de los cartones, o {@code null} para cartones independientes.
+     */
+    public CardFactory(RandomGenerator random, CardStore store) {
+        this(random, store, null, 0);
+    }
+
+    /**
+     * Crea una fábrica en modo biblioteca: cada cartón por defecto es el siguiente cartón
+     * impreso de la biblioteca, empezando por el número de serie indicado, y se guarda en el
+     * almacén compartido. Los cartones personalizados de {@link #createCard} se siguen generando.
+     *
+     * @param library La biblioteca de cartones 5x5.
+     * @param firstSerial El número de serie del primer cartón que se asignará.
+     * @param store El almacén de los cartones, o {@code null} para cartones independientes.
+     */
+    public CardFactory(CardLibrary library, long firstSerial, CardStore store) {
+        this(null, store, library, firstSerial);
+        if (library.getRows() != 5 || library.getCols() != 5) {
+            throw new IllegalArgumentException("La biblioteca debe ser de cartones 5x5: "
+                    + library.getRows() + "x" + library.getCols());
+        }
+    }
+
+    private CardFactory(RandomGenerator random, CardStore store, CardLibrary library, long firstSerial) {
+        this.random = random;
+        this.store = store;
+        this.library = library;
+        this.nextSerial = firstSerial;
+    }
 
     /**
      * Crea un cartón de Bingo con dimensiones y rangos de números personalizados.
@@ -38,23 +121,45 @@ public class CardFactory {
      * @param minNum El número mínimo posible para el cartón.
      * @param maxNum El número máximo posible para el cartón.
      * @return Una nueva instancia de {@link Core.Card} con números aleatorios dentro del rango especificado.
+     * @throws IllegalArgumentException Si el cartón tiene más de {@value CardStore#MAX_CELLS} casillas,
+     * si el rango se sale de 0 a {@value CardStore#MAX_NUMBER} (límites del almacenamiento compacto
+     * de los cartones) o si el rango no tiene números suficientes para el cartón.
      *
      * Rol en el patrón Factory Method: Factory Method (Método de Fábrica)
      * - Este método es el "factory method" que produce un objeto {@link Core.Card Card}.
      * - Encapsula la lógica de creación (generación aleatoria de números y asignación al cartón).
      */
     public Card createCard(int rows, int cols, int minNum, int maxNum) {
-        // Genera una lista de todos los números posibles dentro del rango.
-        List<Integer> allNumbers = new ArrayList<>();
-        for (int i = minNum; i <= maxNum; i++) {
-            allNumbers.add(i);
+        if (rows < 1 || cols < 1 || rows * cols > CardStore.MAX_CELLS) {
+            throw new IllegalArgumentException("Un cartón admite de 1 a " + CardStore.MAX_CELLS
+                    + " casillas (la máscara de marcado es un long): " + rows + "x" + cols);
         }
-        // Mezcla los números para asegurar la aleatoriedad.
-        Collections.shuffle(allNumbers);
-        // Selecciona la cantidad necesaria de números para el cartón.
-        List<Integer> cardNumbers = allNumbers.subList(0, rows * cols);
-        // Instancia un nuevo Card usando el constructor que acepta una lista de números.
-        return new Card(cardNumbers, rows, cols);
+        if (minNum < 0 || maxNum > CardStore.MAX_NUMBER) {
+            throw new IllegalArgumentException("Los números de un cartón van de 0 a " + CardStore.MAX_NUMBER
+                    + " (se guardan en un byte por casilla): " + minNum + "-" + maxNum);
+        }
+        int cells = rows * cols;
+        if (cells > maxNum - minNum + 1) {
+            throw new IllegalArgumentException("El rango " + minNum + "-" + maxNum + " no tiene " + cells + " números distintos");
+        }
+        // Todos los números posibles dentro del rango, en un array primitivo (sin objetos Integer).
+        int[] pool = new int[maxNum - minNum + 1];
+        for (int i = 0; i < pool.length; i++) {
+            pool[i] = minNum + i;
+        }
+        // Fisher-Yates parcial: solo se sortean los números que necesita el cartón, que quedan al final.
+        RandomGenerator generator = random();
+        int[] numbers = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            int available = pool.length - i;
+            int pick = generator.nextInt(available);
+            numbers[i] = pool[pick];
+            pool[pick] = pool[available - 1];
+        }
+        if (fitsStore(rows, cols)) {
+            return store.add(numbers); // Vista sobre el almacén compartido.
+        }
+        return new Card(numbers, rows, cols);
     }
 
     /**
@@ -70,8 +175,82 @@ public class CardFactory {
      * lo que simplifica la fábrica al no tener que replicar esa lógica.
      */
     public Card createDefaultCard() {
+        if (library != null) {
+            return nextLibraryCard();
+        }
+        if (fitsStore(5, 5)) {
+            return store.add(random()); // Mismas reglas de llenado, guardado en el almacén compartido.
+        }
         // La creación del Card (5x5) delega la lógica de llenado con reglas de Bingo
         // directamente al constructor de la clase Card.
-        return new Card(5, 5);
+        return new Card(5, 5, random());
+    }
+
+    /**
+     * Crea un lote de cartones predeterminados (5x5) garantizando que son todos distintos entre sí
+     * y distintos de los creados en lotes anteriores de esta fábrica, para que dos jugadores nunca
+     * reciban el mismo cartón. Los genera el {@link UniqueCardGenerator}: en el hilo que llama
+     * para los lotes pequeños y en paralelo para los grandes. En modo biblioteca, los cartones son los siguientes de la serie.
+     *
+     * @param count La cantidad de cartones.
+     * @return Los cartones creados, en orden.
+     *
+     * Rol en el patrón Factory Method: Factory Method (Método de Fábrica)
+     * - Produce varios {@link Core.Card productos} a la vez, con la misma regla de llenado que
+     * {@link #createDefaultCard()}.
+     */
+    public List<Card> createUniqueDefaultCards(int count) {
+        List<Card> cards = new ArrayList<>(count);
+        if (library != null) {
+            for (int i = 0; i < count; i++) {
+                cards.add(nextLibraryCard()); // Cada número de serie es un cartón distinto.
+            }
+            return cards;
+        }
+        if (uniqueGenerator == null) {
+            uniqueGenerator = new UniqueCardGenerator();
+        }
+        CardStore target = fitsStore(5, 5) ? store : new CardStore(5, 5, count);
+        // El lote deriva del generador de la fábrica, así que una partida con semilla se sigue reproduciendo.
+        int first = uniqueGenerator.generate(target, count, new SplittableRandom(random().nextLong()));
+        for (int i = 0; i < count; i++) {
+            cards.add(target.get(first + i));
+        }
+        return cards;
+    }
+
+    /**
+     * Obtiene el número de serie que recibirá el próximo cartón asignado de la biblioteca.
+     * Sirve para saber qué series quedaron asignadas, o para continuar con la siguiente fábrica.
+     *
+     * @return El próximo número de serie (sin significado si la fábrica no está en modo biblioteca).
+     */
+    public long getNextSerial() {
+        return nextSerial;
+    }
+
+    /**
+     * Asigna el siguiente cartón impreso de la biblioteca.
+     */
+    private Card nextLibraryCard() {
+        if (!library.contains(nextSerial)) {
+            throw new IllegalStateException("No quedan cartones en la biblioteca a partir de la serie " + nextSerial);
+        }
+        long serial = nextSerial++;
+        return (store != null) ? library.addTo(store, serial) : library.getCard(serial);
+    }
+
+    /**
+     * Obtiene el generador de los cartones: el de la fábrica o, si no tiene, el del hilo actual.
+     */
+    private RandomGenerator random() {
+        return (random != null) ? random : ThreadLocalRandom.current();
+    }
+
+    /**
+     * Indica si los cartones de esas dimensiones se guardan en el almacén compartido.
+     */
+    private boolean fitsStore(int rows, int cols) {
+        return store != null && store.getRows() == rows && store.getCols() == cols;
     }
 }
\ No newline at end of file
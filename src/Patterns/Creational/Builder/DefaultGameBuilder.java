@@ -5,6 +5,7 @@ import Patterns.Creational.AbstractFactory.CardFactory;
 import Core.Card; 
 import Players.Player;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -44,8 +45,10 @@ public class DefaultGameBuilder implements GameBuilder {
      * Una instancia de {@link Patterns.Creational.AbstractFactory.CardFactory}
      * utilizada para crear los cartones para los jugadores.
      * Esto muestra la delegación de la creación de un tipo de objeto a un Factory Method.
+     * Se crea en {@link #buildGame()} con el generador de cartones del juego construido,
+     * para que los cartones se deriven de la semilla de la partida.
      */
-    private CardFactory factory = new CardFactory(); // Usando el Factory Method para crear cartones
+    private CardFactory factory; // Usando el Factory Method para crear cartones
 
     /**
      * Establece la lista de jugadores que participarán en el juego.
@@ -81,13 +84,15 @@ public class DefaultGameBuilder implements GameBuilder {
      */
     @Override
     public void buildGame() {
-        game = new Game(); // Inicializa el nuevo objeto Game
+        game = new Game(); // Inicializa el nuevo objeto Game (con una semilla nueva)
+        factory = new CardFactory(game.getCardRandom(), game.getCardStore()); // Cartones derivados de la semilla del juego
+        // Utiliza la CardFactory para crear todos los cartones predeterminados, sin repetir ninguno.
+        // Esta es la colaboración con el patrón Factory Method.
+        Iterator<Card> cards = factory.createUniqueDefaultCards(players.size() * cardsPerPlayer).iterator();
         // Itera sobre cada jugador para añadir cartones y luego añadir el jugador al juego.
         for (Player player : players) {
             for (int i = 0; i < cardsPerPlayer; i++) {
-                // Utiliza la CardFactory para crear un cartón predeterminado y añadirlo al jugador.
-                // Esta es la colaboración con el patrón Factory Method.
-                player.addCard(factory.createDefaultCard());
+                player.addCard(cards.next());
             }
             game.addPlayer(player); // Añade el jugador configurado al juego
         }
@@ -0,0 +1,44 @@
+package Patterns.Structural.Decorator;
+
+import java.awt.Color;
+
+/**
+ * Clase BaseCellStyleProvider
+ *
+ * Proveedor de estilo base para las casillas del cartón pintado con Java2D.
+ * Reproduce el aspecto por defecto de las celdas HTML de {@code Player.getCardDisplayString}:
+ * número azul índigo sobre fondo verde claro, y la casilla FREE en ámbar con texto blanco.
+ * Los estilos son constantes, por lo que no crea objetos al pintar.
+ *
+ * Rol en el patrón Decorator: Concrete Component (Componente Concreto)
+ * - Implementa la interfaz {@link ICellStyleProvider Componente}.
+ * - Es el objeto original al que los decoradores de estilo añaden comportamiento.
+ */
+public class BaseCellStyleProvider implements ICellStyleProvider {
+    /**
+     * Estilo de una casilla normal: número #3F51B5 sobre fondo #E8F5E9, sin ficha.
+     */
+    private static final CellStyle NUMBER_STYLE = new CellStyle(new Color(0xE8F5E9), new Color(0x3F51B5), null);
+
+    /**
+     * Estilo de la casilla FREE: texto blanco sobre fondo #FFC107, sin ficha.
+     */
+    private static final CellStyle FREE_STYLE = new CellStyle(new Color(0xFFC107), Color.WHITE, null);
+
+    /**
+     * Provee el estilo por defecto de una casilla.
+     * El número 0 representa la casilla FREE (igual que en {@link BaseNumberFormatter}).
+     *
+     * @param number El número de la casilla.
+     * @param row La fila de la casilla.
+     * @param col La columna de la casilla.
+     * @param isMarked Booleano que indica si el número está marcado.
+     * @param isLastCalled Booleano que indica si el número fue la última bola cantada.
+     * @param inWinPattern Booleano que indica si el número forma parte de un patrón de victoria.
+     * @return El estilo base de la casilla.
+     */
+    @Override
+    public CellStyle getStyle(int number, int row, int col, boolean isMarked, boolean isLastCalled, boolean inWinPattern) {
+        return (number == 0) ? FREE_STYLE : NUMBER_STYLE;
+    }
+}
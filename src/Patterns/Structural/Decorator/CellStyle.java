@@ -0,0 +1,111 @@
+package Patterns.Structural.Decorator;
+
+import java.awt.Color;
+import java.util.Objects;
+
+/**
+ * Clase CellStyle
+ *
+ * Estilo visual inmutable de una casilla del cartón: color de fondo, color del número y,
+ * opcionalmente, el color de la ficha (círculo) que se dibuja bajo el número para indicar
+ * que la casilla está marcada.
+ * Al ser inmutable y comparable por valor, se puede usar como clave para cachear la imagen
+ * pre-dibujada de la casilla.
+ *
+ * No es un participante directo del patrón Decorator: es el valor que producen y
+ * transforman los {@link ICellStyleProvider proveedores de estilo}.
+ */
+public final class CellStyle {
+    private final Color background;   // Color de fondo de la casilla.
+    private final Color foreground;   // Color del número.
+    private final Color marker;       // Color de la ficha de marcado, o null si no se dibuja.
+
+    /**
+     * Constructor para CellStyle.
+     *
+     * @param background Color de fondo de la casilla.
+     * @param foreground Color del número.
+     * @param marker Color de la ficha de marcado, o {@code null} si no se dibuja ficha.
+     */
+    public CellStyle(Color background, Color foreground, Color marker) {
+        this.background = Objects.requireNonNull(background, "background");
+        this.foreground = Objects.requireNonNull(foreground, "foreground");
+        this.marker = marker;
+    }
+
+    /**
+     * Obtiene el color de fondo de la casilla.
+     *
+     * @return El color de fondo.
+     */
+    public Color getBackground() {
+        return background;
+    }
+
+    /**
+     * Obtiene el color del número.
+     *
+     * @return El color del texto.
+     */
+    public Color getForeground() {
+        return foreground;
+    }
+
+    /**
+     * Obtiene el color de la ficha de marcado.
+     *
+     * @return El color de la ficha, o {@code null} si la casilla no lleva ficha.
+     */
+    public Color getMarker() {
+        return marker;
+    }
+
+    /**
+     * Devuelve una copia del estilo con otro color de fondo (o este mismo si no cambia).
+     *
+     * @param background El nuevo color de fondo.
+     * @return El estilo resultante.
+     */
+    public CellStyle withBackground(Color background) {
+        return background.equals(this.background) ? this : new CellStyle(background, foreground, marker);
+    }
+
+    /**
+     * Devuelve una copia del estilo con otro color de número (o este mismo si no cambia).
+     *
+     * @param foreground El nuevo color del número.
+     * @return El estilo resultante.
+     */
+    public CellStyle withForeground(Color foreground) {
+        return foreground.equals(this.foreground) ? this : new CellStyle(background, foreground, marker);
+    }
+
+    /**
+     * Devuelve una copia del estilo con otra ficha de marcado (o este mismo si no cambia).
+     *
+     * @param marker El nuevo color de la ficha, o {@code null} para quitarla.
+     * @return El estilo resultante.
+     */
+    public CellStyle withMarker(Color marker) {
+        return Objects.equals(marker, this.marker) ? this : new CellStyle(background, foreground, marker);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CellStyle)) {
+            return false;
+        }
+        CellStyle other = (CellStyle) o;
+        return background.equals(other.background)
+                && foreground.equals(other.foreground)
+                && Objects.equals(marker, other.marker);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(background, foreground, marker);
+    }
+}
@@ -0,0 +1,46 @@
+package Patterns.Structural.Decorator;
+
+/**
+ * Clase abstracta CellStyleDecorator
+ *
+ * Decorador abstracto de los {@link ICellStyleProvider proveedores de estilo}.
+ * Mantiene una referencia al proveedor que decora y, por defecto, delega en él.
+ * Los decoradores concretos obtienen el estilo del proveedor envuelto y lo modifican;
+ * por eso, en una cadena, el decorador más externo es el que tiene la última palabra.
+ *
+ * Rol en el patrón Decorator: Decorator (Decorador Abstracto)
+ * - Mantiene una referencia a un objeto {@link ICellStyleProvider Componente}.
+ * - Implementa la interfaz {@link ICellStyleProvider Componente} para que los clientes
+ * traten a los decoradores como al proveedor original.
+ */
+public abstract class CellStyleDecorator implements ICellStyleProvider {
+    /**
+     * Referencia al proveedor de estilo que está siendo decorado.
+     */
+    protected ICellStyleProvider decoratedProvider;
+
+    /**
+     * Constructor para CellStyleDecorator.
+     *
+     * @param decoratedProvider La instancia de {@link ICellStyleProvider} que será envuelta.
+     */
+    public CellStyleDecorator(ICellStyleProvider decoratedProvider) {
+        this.decoratedProvider = decoratedProvider;
+    }
+
+    /**
+     * Implementación por defecto: delega en el proveedor envuelto.
+     *
+     * @param number El número de la casilla.
+     * @param row La fila de la casilla.
+     * @param col La columna de la casilla.
+     * @param isMarked Indica si el número está marcado.
+     * @param isLastCalled Indica si el número es el último cantado.
+     * @param inWinPattern Indica si el número forma parte de una línea ganadora.
+     * @return El estilo devuelto por el proveedor decorado.
+     */
+    @Override
+    public CellStyle getStyle(int number, int row, int col, boolean isMarked, boolean isLastCalled, boolean inWinPattern) {
+        return decoratedProvider.getStyle(number, row, col, isMarked, isLastCalled, inWinPattern);
+    }
+}
@@ -0,0 +1,29 @@
+package Patterns.Structural.Decorator;
+
+/**
+ * Interfaz ICellStyleProvider
+ *
+ * Esta interfaz define el contrato para decidir el estilo visual ({@link CellStyle}) con el que
+ * se pinta una casilla del cartón de Bingo cuando el cartón se dibuja directamente con Java2D
+ * (por ejemplo, en {@code UI.CardGridComponent}), en lugar de generarse como HTML.
+ * Es la contrapartida gráfica de {@link ICardNumberFormatter}: recibe el mismo estado de la casilla
+ * y admite la misma composición de decoradores.
+ *
+ * Rol en el patrón Decorator: Component (Interfaz de Componente)
+ * - Define la interfaz común para el proveedor base ({@link BaseCellStyleProvider})
+ * y los decoradores de estilo ({@link CellStyleDecorator}).
+ */
+public interface ICellStyleProvider {
+    /**
+     * Obtiene el estilo con el que se debe pintar una casilla según su estado.
+     *
+     * @param number El número de la casilla (0 representa la casilla FREE).
+     * @param row La fila de la casilla dentro del cartón (0-indexado).
+     * @param col La columna de la casilla dentro del cartón (0-indexado).
+     * @param isMarked Booleano que indica si el número ha sido marcado en el cartón.
+     * @param isLastCalled Booleano que indica si este número fue la última bola cantada.
+     * @param inWinPattern Booleano que indica si este número forma parte de un patrón de victoria.
+     * @return El {@link CellStyle} de la casilla, incorporando las decoraciones aplicadas.
+     */
+    CellStyle getStyle(int number, int row, int col, boolean isMarked, boolean isLastCalled, boolean inWinPattern);
+}
@@ -0,0 +1,54 @@
+package Patterns.Structural.Decorator;
+
+import java.awt.Color;
+
+/**
+ * Clase LastCalledCellStyleDecorator
+ *
+ * Decorador de estilo que resalta la casilla de la última bola cantada: número en naranja rojizo
+ * sobre un fondo anaranjado claro.
+ *
+ * Rol en el patrón Decorator: Concrete Decorator (Decorador Concreto)
+ * - Extiende {@link CellStyleDecorator Decorator abstracto} e implementa {@link ICellStyleProvider Componente}.
+ * - Añade el resaltado de la última bola cantada.
+ */
+public class LastCalledCellStyleDecorator extends CellStyleDecorator {
+    /**
+     * Color del número de la última bola (el mismo que usa {@link LastCalledNumberDecorator}).
+     */
+    private static final Color FOREGROUND = new Color(0xFF5722);
+
+    /**
+     * Fondo de la casilla de la última bola cantada.
+     */
+    private static final Color BACKGROUND = new Color(0xFFE0B2);
+
+    /**
+     * Constructor para LastCalledCellStyleDecorator.
+     *
+     * @param decoratedProvider El proveedor de estilo a decorar.
+     */
+    public LastCalledCellStyleDecorator(ICellStyleProvider decoratedProvider) {
+        super(decoratedProvider);
+    }
+
+    /**
+     * Obtiene el estilo del proveedor envuelto y, si es la última bola cantada, lo modifica.
+     *
+     * @param number El número de la casilla.
+     * @param row La fila de la casilla.
+     * @param col La columna de la casilla.
+     * @param isMarked Booleano que indica si el número está marcado.
+     * @param isLastCalled Booleano que indica si el número fue la última bola cantada.
+     * @param inWinPattern Booleano que indica si el número forma parte de un patrón de victoria.
+     * @return El estilo de la casilla, con la decoración aplicada si corresponde.
+     */
+    @Override
+    public CellStyle getStyle(int number, int row, int col, boolean isMarked, boolean isLastCalled, boolean inWinPattern) {
+        CellStyle base = super.getStyle(number, row, col, isMarked, isLastCalled, inWinPattern);
+        if (isLastCalled) {
+            return base.withForeground(FOREGROUND).withBackground(BACKGROUND);
+        }
+        return base;
+    }
+}
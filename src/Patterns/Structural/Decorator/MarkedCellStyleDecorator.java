@@ -0,0 +1,54 @@
+package Patterns.Structural.Decorator;
+
+import java.awt.Color;
+
+/**
+ * Clase MarkedCellStyleDecorator
+ *
+ * Decorador de estilo que indica que una casilla está marcada: pinta el número en verde y
+ * dibuja bajo él una ficha verde translúcida. La casilla FREE no lleva ficha.
+ *
+ * Rol en el patrón Decorator: Concrete Decorator (Decorador Concreto)
+ * - Extiende {@link CellStyleDecorator Decorator abstracto} e implementa {@link ICellStyleProvider Componente}.
+ * - Añade la ficha y el color de las casillas marcadas.
+ */
+public class MarkedCellStyleDecorator extends CellStyleDecorator {
+    /**
+     * Color del número marcado (el mismo que usa {@link MarkedNumberDecorator}).
+     */
+    private static final Color FOREGROUND = new Color(0x4CAF50);
+
+    /**
+     * Color de la ficha de marcado: verde translúcido para que el número se siga leyendo.
+     */
+    private static final Color MARKER = new Color(0x4C, 0xAF, 0x50, 0x55);
+
+    /**
+     * Constructor para MarkedCellStyleDecorator.
+     *
+     * @param decoratedProvider El proveedor de estilo a decorar.
+     */
+    public MarkedCellStyleDecorator(ICellStyleProvider decoratedProvider) {
+        super(decoratedProvider);
+    }
+
+    /**
+     * Obtiene el estilo del proveedor envuelto y, si la casilla está marcada, lo modifica.
+     *
+     * @param number El número de la casilla.
+     * @param row La fila de la casilla.
+     * @param col La columna de la casilla.
+     * @param isMarked Booleano que indica si el número está marcado.
+     * @param isLastCalled Booleano que indica si el número fue la última bola cantada.
+     * @param inWinPattern Booleano que indica si el número forma parte de un patrón de victoria.
+     * @return El estilo de la casilla, con la decoración aplicada si corresponde.
+     */
+    @Override
+    public CellStyle getStyle(int number, int row, int col, boolean isMarked, boolean isLastCalled, boolean inWinPattern) {
+        CellStyle base = super.getStyle(number, row, col, isMarked, isLastCalled, inWinPattern);
+        if (isMarked && number != 0) {
+            return base.withForeground(FOREGROUND).withMarker(MARKER);
+        }
+        return base;
+    }
+}
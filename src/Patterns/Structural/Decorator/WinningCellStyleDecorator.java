@@ -0,0 +1,54 @@
+package Patterns.Structural.Decorator;
+
+import java.awt.Color;
+
+/**
+ * Clase WinningCellStyleDecorator
+ *
+ * Decorador de estilo que resalta las casillas que forman parte de un patrón de victoria:
+ * número en azul sobre un fondo azul claro.
+ *
+ * Rol en el patrón Decorator: Concrete Decorator (Decorador Concreto)
+ * - Extiende {@link CellStyleDecorator Decorator abstracto} e implementa {@link ICellStyleProvider Componente}.
+ * - Añade el resaltado del patrón ganador.
+ */
+public class WinningCellStyleDecorator extends CellStyleDecorator {
+    /**
+     * Color del número ganador (el mismo que usa {@link WinningNumberDecorator}).
+     */
+    private static final Color FOREGROUND = new Color(0x2196F3);
+
+    /**
+     * Fondo de las casillas del patrón ganador.
+     */
+    private static final Color BACKGROUND = new Color(0xBBDEFB);
+
+    /**
+     * Constructor para WinningCellStyleDecorator.
+     *
+     * @param decoratedProvider El proveedor de estilo a decorar.
+     */
+    public WinningCellStyleDecorator(ICellStyleProvider decoratedProvider) {
+        super(decoratedProvider);
+    }
+
+    /**
+     * Obtiene el estilo del proveedor envuelto y, si la casilla forma parte de un patrón de victoria, lo modifica.
+     *
+     * @param number El número de la casilla.
+     * @param row La fila de la casilla.
+     * @param col La columna de la casilla.
+     * @param isMarked Booleano que indica si el número está marcado.
+     * @param isLastCalled Booleano que indica si el número fue la última bola cantada.
+     * @param inWinPattern Booleano que indica si el número forma parte de un patrón de victoria.
+     * @return El estilo de la casilla, con la decoración aplicada si corresponde.
+     */
+    @Override
+    public CellStyle getStyle(int number, int row, int col, boolean isMarked, boolean isLastCalled, boolean inWinPattern) {
+        CellStyle base = super.getStyle(number, row, col, isMarked, isLastCalled, inWinPattern);
+        if (inWinPattern) {
+            return base.withForeground(FOREGROUND).withBackground(BACKGROUND);
+        }
+        return base;
+    }
+}
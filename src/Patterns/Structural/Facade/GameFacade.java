@@ -1,12 +1,20 @@
 package Patterns.Structural.Facade;
 
 import Core.BallCaller; 
+import Core.CardLibrary;
 import Core.Game; 
+import Core.GameJournal;
+import Core.GameSnapshot;
+import Core.SnapshotScheduler;
 import Patterns.Creational.AbstractFactory.CardFactory; 
 import Core.Card; 
 import Players.Player; 
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.List;
+import java.util.OptionalLong;
 
 /**
  * Clase GameFacade
@@ -36,13 +44,33 @@ public class GameFacade {
      */
     private CardFactory cardFactory;
 
+    /**
+     * Diario en el que se registra la partida, o {@code null} si no se registra.
+     */
+    private GameJournal journal;
+
+    /**
+     * Programador de las instantáneas periódicas de la partida, o {@code null} si no se toman.
+     */
+    private SnapshotScheduler snapshots;
+
     /**
      * Constructor predeterminado para GameFacade.
      * Inicializa una nueva instancia de {@link Core.Game} y {@link CardFactory}.
      */
     public GameFacade() {
-        this.game = new Game(); // Instancia el componente Game del subsistema.
-        this.cardFactory = new CardFactory(); // Instancia el CardFactory (Factory Method) del subsistema.
+        this(new Game()); // Instancia el componente Game del subsistema (con una semilla nueva).
+    }
+
+    /**
+     * Constructor para GameFacade de una partida reproducible a partir de una semilla.
+     * Con la misma semilla, los mismos jugadores y la misma cantidad de cartones por jugador,
+     * se obtienen los mismos cartones, el mismo orden de bolas y la misma estrategia.
+     *
+     * @param seed La semilla de la partida.
+     */
+    public GameFacade(long seed) {
+        this(new Game(seed));
     }
 
     /**
@@ -53,7 +81,49 @@ public class GameFacade {
      */
     public GameFacade(Game game) {
         this.game = game; // Utiliza la instancia de Game proporcionada.
-        this.cardFactory = new CardFactory(); // Aunque el juego ya existe, la fábrica de cartones sigue siendo necesaria.
+        // Los cartones se generan con el flujo aleatorio de la propia partida, para poder reproducirla,
+        // y se guardan en su almacén compacto de cartones.
+        this.cardFactory = new CardFactory(game.getCardRandom(), game.getCardStore());
+    }
+
+    /**
+     * Prepara la repetición de una partida a partir de su semilla: registra los jugadores
+     * (con la misma cantidad temporal de cartones que en la partida original) y elige la estrategia.
+     * Al jugar sus rondas se cantan las mismas bolas y ganan los mismos jugadores.
+     *
+     * @param seed La semilla de la partida original.
+     * @param players Jugadores nuevos, en el mismo orden y con la misma cantidad de cartones que en la original.
+     * @return La fachada lista para jugar la repetición.
+     */
+    public static GameFacade replay(long seed, List<Player> players) {
+        GameFacade facade = new GameFacade(seed);
+        facade.registerPlayers(players);
+        facade.initializeGameSettings();
+        return facade;
+    }
+
+    /**
+     * Reanuda una partida a partir de la {@link GameSnapshot instantánea} guardada en un fichero,
+     * con sus jugadores, cartones, estrategia y bolas cantadas.
+     *
+     * @param file El fichero de la instantánea.
+     * @return La fachada sobre la partida restaurada, lista para seguir cantando bolas.
+     * @throws IOException Si la instantánea no se puede leer o no es válida.
+     */
+    public static GameFacade resume(Path file) throws IOException {
+        return new GameFacade(GameSnapshot.readFrom(file).restore());
+    }
+
+    /**
+     * Hace que los cartones de los jugadores que se registren a partir de ahora se asignen de una
+     * {@link CardLibrary biblioteca de cartones pre-impresos}, por orden de número de serie, en
+     * lugar de generarse al azar.
+     *
+     * @param library La biblioteca de cartones 5x5. Debe seguir abierta mientras se registran jugadores.
+     * @param firstSerial El número de serie del primer cartón que se asignará.
+     */
+    public void useCardLibrary(CardLibrary library, long firstSerial) {
+        this.cardFactory = new CardFactory(library, firstSerial, game.getCardStore());
     }
 
     /**
@@ -64,12 +134,15 @@ public class GameFacade {
      */
     public void registerPlayers(List<Player> players) {
         // La Facade orquesta la interacción entre Player y CardFactory (Factory Method).
+        int totalCards = 0;
+        for (Player player : players) {
+            totalCards += player.getTempCardCount(); // Obtiene el número de cartones deseado por el jugador.
+        }
+        // Utiliza el Factory Method para crear de una vez todos los cartones, sin repetir ninguno.
+        Iterator<Card> cards = cardFactory.createUniqueDefaultCards(totalCards).iterator();
         for (Player player : players) {
-            int cardsPerPlayer = player.getTempCardCount(); // Obtiene el número de cartones deseado por el jugador.
-            for (int i = 0; i < cardsPerPlayer; i++) {
-                // Utiliza el Factory Method para crear un cartón por defecto.
-                Card card = cardFactory.createDefaultCard();
-                player.addCard(card); // Añade el cartón al jugador.
+            for (int i = 0; i < player.getTempCardCount(); i++) {
+                player.addCard(cards.next()); // Añade el cartón al jugador.
             }
             game.addPlayer(player); // Añade el jugador configurado al objeto Game.
         }
@@ -106,6 +179,17 @@ public class GameFacade {
         return game.playRoundGUI();
     }
 
+    /**
+     * Indica si el jugador ha hecho Bingo con la estrategia de victoria actual.
+     * Delega la solicitud al subsistema {@link Core.Game}, que lo detecta de forma incremental.
+     *
+     * @param player El jugador a consultar.
+     * @return true si el jugador ha ganado, false en caso contrario.
+     */
+    public boolean hasBingo(Player player) {
+        return game.hasBingo(player);
+    }
+
     /**
      * Obtiene el historial de bolas cantadas hasta el momento.
      * Delega la solicitud al subsistema {@link Core.Game}.
@@ -116,6 +200,85 @@ public class GameFacade {
         return game.getCalledBalls();
     }
 
+    /**
+     * Obtiene la semilla con la que se puede reproducir la partida.
+     *
+     * @return La semilla, o vacío si la partida no tiene semilla.
+     */
+    public OptionalLong getSeed() {
+        return game.getSeed();
+    }
+
+    /**
+     * Abre un {@link GameJournal diario} en el fichero indicado y lo conecta a la partida:
+     * desde ese momento cada jugador, cartón, bola y ganador queda registrado.
+     * Si ya había un diario conectado, se cierra primero.
+     *
+     * @param file El fichero del diario. Si ya existe, la partida se añade al final.
+     * @throws IOException Si el diario no se puede abrir.
+     */
+    public void attachJournal(Path file) throws IOException {
+        closeJournal();
+        journal = GameJournal.open(file);
+        game.attachJournal(journal);
+    }
+
+    /**
+     * Abre el {@link GameJournal diario} en el que se registró una partida reanudada y sigue
+     * registrándola en él, sin volver a registrar lo que el diario ya tiene de ella. Si ya había
+     * un diario conectado, se cierra primero.
+     *
+     * @param file El fichero del diario.
+     * @throws IOException Si el diario no se puede abrir o leer.
+     */
+    public void continueJournal(Path file) throws IOException {
+        closeJournal();
+        journal = GameJournal.open(file);
+        game.continueJournal(journal);
+    }
+
+    /**
+     * Vuelca y cierra el diario de la partida, si hay uno conectado.
+     *
+     * @throws IOException Si el diario no se puede cerrar.
+     */
+    public void closeJournal() throws IOException {
+        if (journal != null) {
+            GameJournal current = journal;
+            journal = null;
+            current.close();
+        }
+    }
+
+    /**
+     * Empieza a guardar periódicamente una instantánea de la partida, desde un hilo propio y sin
+     * detener las rondas. Debe llamarse con los jugadores y la estrategia ya configurados.
+     *
+     * @param file El fichero de la instantánea.
+     * @param periodMs El tiempo entre instantáneas, en milisegundos.
+     */
+    public void startSnapshots(Path file, long periodMs) {
+        stopSnapshots(true);
+        snapshots = new SnapshotScheduler(game, file, periodMs);
+    }
+
+    /**
+     * Deja de guardar instantáneas de la partida.
+     *
+     * @param keep {@code true} para guardar una última instantánea y poder reanudar la partida;
+     * {@code false} para borrarla porque la partida terminó.
+     */
+    public void stopSnapshots(boolean keep) {
+        if (snapshots != null) {
+            if (keep) {
+                snapshots.stop();
+            } else {
+                snapshots.discard();
+            }
+            snapshots = null;
+        }
+    }
+
     /**
      * Obtiene la instancia del objeto {@link Core.Game} que está siendo gestionado por esta Facade.
      * Esto puede ser útil si un cliente necesita acceder directamente al objeto Game para operaciones avanzadas.
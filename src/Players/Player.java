@@ -2,6 +2,7 @@ package Players;
 
 import Core.Card; 
 import Patterns.Structural.Decorator.ICardNumberFormatter; 
+import Patterns.Structural.Decorator.ICellStyleProvider;
 import Patterns.Behavioral.Observer.Observer; 
 import Patterns.Behavioral.Strategy.WinStrategy; 
 
@@ -15,6 +16,9 @@ import java.util.List;
  * Esta clase sirve como el {@link Observer Sujeto Concreto} en el patrón Observer,
  * ya que observa las bolas cantadas (es notificado por el {@link Core.BallCaller Sujeto Concreto}).
  * También contiene la lógica para la gestión de sus cartones y la verificación de victoria.
+ * Dentro de una partida no se usan estos caminos: el {@link Core.Game juego} marca cada bola a
+ * través de su índice de bolas y detecta los ganadores con su {@link Core.WinTracker}, por lo que
+ * {@link #update(int)} y {@link #checkBingoGUI(WinStrategy)} se conservan solo por compatibilidad.
  *
  * Rol en el patrón Observer: Concrete Observer (Observador Concreto)
  * - Implementa la interfaz {@link Observer}.
@@ -28,6 +32,8 @@ import java.util.List;
  * Rol en el patrón Decorator: Client (Cliente)
  * - Utiliza la interfaz {@link Patterns.Structural.Decorator.ICardNumberFormatter Componente}
  * para formatear la visualización de los números en sus cartones, combinando decoradores.
+ * - Mantiene el {@link Patterns.Structural.Decorator.ICellStyleProvider proveedor de estilos}
+ * con el que se pintan sus cartones en la GUI.
  */
 public abstract class Player implements Observer {
     /**
@@ -52,6 +58,33 @@ public abstract class Player implements Observer {
      */
     protected ICardNumberFormatter cardNumberFormatter;
 
+    /**
+     * El proveedor de estilos de casilla, que puede ser decorado.
+     * Se utiliza para pintar los cartones directamente con Java2D en la GUI.
+     */
+    protected ICellStyleProvider cellStyleProvider;
+
+    /**
+     * Inicio del documento HTML de un cartón: estilos CSS integrados y apertura de la tabla.
+     * Es idéntico para todos los cartones, así que se construye una sola vez.
+     */
+    private static final String CARD_HTML_HEADER = "<html><head><style>"
+            + "body { margin: 0; padding: 0; font-family: 'Comic Sans MS', cursive, sans-serif; font-size: 8pt; line-height: 1.0; }"
+            + "table { width:100%; height:100%; border-collapse: collapse; border: 3px solid #4CAF50; }"
+            + "th, td { border: 1px solid #8BC34A; padding: 1px; text-align: center; vertical-align: middle; }"
+            + "th { background-color:#FFEB3B; font-size:10pt; font-weight:bold; color: #D32F2F; text-shadow: 1px 1px 1px #000000; }"
+            + "td { font-size:12pt; font-weight: bold; color: #3F51B5; background-color: #E8F5E9; }"
+            + "td font { color: purple; font-weight: bold; }" // Este estilo podría ser sobrescrito por los decoradores.
+            + ".free-cell { background-color: #FFC107; color: #FFFFFF; font-size: 12pt; font-weight: bold; text-shadow: 1px 1px 1px #000000; }"
+            + "</style></head><body>"
+            + "<table>";
+
+    /**
+     * Capacidad inicial del buffer del HTML de un cartón, suficiente para un cartón 5x5
+     * con decoraciones sin que el {@link StringBuilder} tenga que crecer.
+     */
+    private static final int CARD_HTML_CAPACITY = 4096;
+
     /**
      * Constructor para la clase Player.
      * Inicializa el nombre del jugador y su lista de cartones.
@@ -120,6 +153,25 @@ public abstract class Player implements Observer {
         this.cardNumberFormatter = formatter;
     }
 
+    /**
+     * Establece el proveedor de estilos de casilla para este jugador.
+     * Permite inyectar el componente {@link ICellStyleProvider} o una cadena de decoradores de estilo.
+     *
+     * @param provider La instancia de {@link ICellStyleProvider} a utilizar.
+     */
+    public void setCellStyleProvider(ICellStyleProvider provider) {
+        this.cellStyleProvider = provider;
+    }
+
+    /**
+     * Obtiene el proveedor de estilos de casilla de este jugador.
+     *
+     * @return El proveedor configurado, o {@code null} si no se configuró ninguno.
+     */
+    public ICellStyleProvider getCellStyleProvider() {
+        return cellStyleProvider;
+    }
+
     /**
      * Genera una cadena HTML que representa visualmente un cartón de Bingo específico del jugador.
      * Utiliza el {@link ICardNumberFormatter formateador} configurado
@@ -134,19 +186,8 @@ public abstract class Player implements Observer {
             return "<html><body>Formato no configurado</body></html>";
         }
 
-        StringBuilder html = new StringBuilder();
-        html.append("<html><head><style>");
-        // Estilos CSS integrados para la visualización del cartón
-        html.append("body { margin: 0; padding: 0; font-family: 'Comic Sans MS', cursive, sans-serif; font-size: 8pt; line-height: 1.0; }");
-        html.append("table { width:100%; height:100%; border-collapse: collapse; border: 3px solid #4CAF50; }");
-        html.append("th, td { border: 1px solid #8BC34A; padding: 1px; text-align: center; vertical-align: middle; }");
-        html.append("th { background-color:#FFEB3B; font-size:10pt; font-weight:bold; color: #D32F2F; text-shadow: 1px 1px 1px #000000; }");
-        html.append("td { font-size:12pt; font-weight: bold; color: #3F51B5; background-color: #E8F5E9; }");
-        html.append("td font { color: purple; font-weight: bold; }"); // Este estilo podría ser sobrescrito por los decoradores.
-        html.append(".free-cell { background-color: #FFC107; color: #FFFFFF; font-size: 12pt; font-weight: bold; text-shadow: 1px 1px 1px #000000; }");
-        html.append("</style></head><body>");
-
-        html.append("<table>");
+        StringBuilder html = new StringBuilder(CARD_HTML_CAPACITY);
+        html.append(CARD_HTML_HEADER); // Estilos y apertura de la tabla, comunes a todos los cartones.
 
         // Encabezados B-I-N-G-O
         html.append("<tr>");
@@ -193,7 +234,11 @@ public abstract class Player implements Observer {
      *
      * @param currentWinStrategy La estrategia de victoria actual a utilizar (ej. Línea Horizontal, Diagonal).
      * @return true si el jugador ha logrado un Bingo en al menos uno de sus cartones, false en caso contrario.
+     * @deprecated Recorre todos los cartones con la estrategia. Dentro de una partida, usar
+     *             {@link Core.Game#hasBingo(Player)}, que responde con los contadores del
+     *             {@link Core.WinTracker} sin recorrerlos.
      */
+    @Deprecated
     public boolean checkBingoGUI(WinStrategy currentWinStrategy) {
         if (currentWinStrategy == null) {
             return false;
@@ -213,7 +258,11 @@ public abstract class Player implements Observer {
      * El jugador reacciona marcando la bola en todos sus cartones.
      *
      * @param ball La nueva bola que ha sido cantada.
+     * @deprecated Marca los cartones por fuera del índice de bolas del juego, así que el
+     *             {@link Core.WinTracker} no se entera de esas marcas. Las bolas de una partida
+     *             deben cantarse con {@link Core.Game#playRoundGUI()}.
      */
+    @Deprecated
     @Override
     public void update(int ball) {
         // Itera sobre todos los cartones del jugador y marca el número si lo encuentra.
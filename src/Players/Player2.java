@@ -17,7 +17,7 @@ package Players;
  *
  * No participa directamente en un patrón de diseño GoF como un rol primario más allá
  * de ser un Concrete Product (si se considera {@link Player} como un Abstract Product)
- * para el patrón Factory Method, y un Concrete Observer.
+ * para el patrón Factory Method, y un Concrete Observer (solo por compatibilidad).
  */
 public class Player2 extends Player {
 
@@ -0,0 +1,143 @@
+package Server;
+
+import Patterns.Structural.Facade.GameFacade;
+import Players.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clase GameRoom
+ *
+ * Una sala de Bingo independiente: su propio {@link GameFacade} (y por tanto su propio
+ * {@link Core.Game}, bombo y jugadores) avanzado por ticks periódicos en un planificador
+ * compartido, en lugar de un {@code javax.swing.Timer} por ventana.
+ *
+ * Los ticks de una misma sala nunca se solapan ({@code scheduleAtFixedRate} no ejecuta
+ * una repetición hasta que termina la anterior), así que el juego no necesita sincronización.
+ * Después de cada tick se publica un {@link RoomState} inmutable para los lectores, que también
+ * informa del mayor retraso con el que empezó un tick (la fluctuación del planificador) y, si la
+ * sala falló, de la excepción que la detuvo.
+ */
+public class GameRoom {
+    private final long id;                 // Identificador de la sala.
+    private final GameFacade facade;       // Fachada sobre el juego de esta sala.
+    private final long tickIntervalMillis; // Tiempo entre bolas.
+    private ScheduledFuture<?> ticker;     // Tarea periódica que hace avanzar la partida.
+    private boolean stopped;               // Si ya se pidió detenerla; entonces no vuelve a arrancar.
+    private volatile RoomState state;      // Último estado publicado.
+    private long firstTickNanos;           // Instante programado del primer tick (System.nanoTime).
+    private long ticks;                    // Ticks ejecutados.
+    private long maxLatenessNanos;         // Mayor retraso de un tick respecto a su instante programado.
+    private volatile boolean latenessReset; // Si el próximo tick debe empezar a medir el retraso de cero.
+
+    /**
+     * Crea una sala con los jugadores indicados, que ya deben tener fijada su cantidad de cartones
+     * ({@link Player#setTempCardCount(int)}).
+     *
+     * @param id El identificador de la sala.
+     * @param players Los jugadores de la sala.
+     * @param tickIntervalMillis Los milisegundos entre bola y bola.
+     */
+    public GameRoom(long id, List<Player> players, long tickIntervalMillis) {
+        this.id = id;
+        this.tickIntervalMillis = tickIntervalMillis;
+        this.facade = new GameFacade();
+        facade.registerPlayers(players);
+        facade.initializeGameSettings();
+        publish(RoomState.Status.WAITING, null);
+    }
+
+    /**
+     * Empieza a cantar bolas en el planificador indicado. No hace nada si la sala ya arrancó o si
+     * ya se detuvo (por ejemplo, porque se destruyó antes de llegar a arrancar).
+     *
+     * @param scheduler El planificador compartido por las salas.
+     */
+    synchronized void start(ScheduledExecutorService scheduler) {
+        if (ticker == null && !stopped) {
+            firstTickNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tickIntervalMillis);
+            ticker = scheduler.scheduleAtFixedRate(this::tick, tickIntervalMillis, tickIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Detiene los ticks de la sala, de forma definitiva. La partida conserva su estado.
+     */
+    synchronized void stop() {
+        stopped = true;
+        if (ticker != null) {
+            ticker.cancel(false);
+        }
+    }
+
+    /**
+     * Pide que el retraso máximo vuelva a medirse desde cero a partir del siguiente tick, por
+     * ejemplo para descartar los ticks que coincidieron con la creación de otras salas.
+     */
+    void resetTickLateness() {
+        latenessReset = true;
+    }
+
+    /**
+     * Un tick: canta una bola (que marca los cartones y actualiza los ganadores) y publica el estado.
+     * Termina la sala cuando hay Bingo o se agotan las bolas.
+     */
+    private void tick() {
+        // Con tasa fija, el tick n está programado n intervalos después del primero.
+        long scheduled = firstTickNanos + ticks++ * TimeUnit.MILLISECONDS.toNanos(tickIntervalMillis);
+        if (latenessReset) {
+            latenessReset = false;
+            maxLatenessNanos = 0;
+        }
+        maxLatenessNanos = Math.max(maxLatenessNanos, System.nanoTime() - scheduled);
+        try {
+            int ball = facade.playRound();
+            boolean finished = ball == -1 || facade.getGame().hasWinner() || !facade.areBallsLeft();
+            publish(finished ? RoomState.Status.FINISHED : RoomState.Status.RUNNING, null);
+            if (finished) {
+                stop();
+            }
+        } catch (RuntimeException e) {
+            // Una excepción cancelaría la tarea en silencio: se publica en el estado junto con su causa.
+            publish(RoomState.Status.FAILED, e);
+            stop();
+        }
+    }
+
+    /**
+     * Construye y publica una instantánea del estado actual de la partida.
+     */
+    private void publish(RoomState.Status status, Throwable failure) {
+        int[] calledBalls = facade.getGame().getCalledBallsArray(); // Copia del prefijo primitivo de la secuencia.
+        List<String> winners = new ArrayList<>();
+        for (Player winner : facade.getGame().getWinners()) {
+            winners.add(winner.getName());
+        }
+        String strategyName = facade.getGame().getWinStrategy().getName();
+        state = new RoomState(id, status, calledBalls, facade.getBallsRemaining(),
+                Collections.unmodifiableList(winners), strategyName, maxLatenessNanos, failure);
+    }
+
+    /**
+     * Obtiene el identificador de la sala.
+     *
+     * @return El identificador.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Obtiene el último estado publicado. Puede llamarse desde cualquier hilo.
+     *
+     * @return El {@link RoomState} más reciente.
+     */
+    public RoomState getState() {
+        return state;
+    }
+}
@@ -0,0 +1,156 @@
+package Server;
+
+import Players.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Clase RoomManager
+ *
+ * Gestiona muchas {@link GameRoom salas} independientes dentro de una misma JVM.
+ * Todas comparten un pequeño planificador (por defecto, un hilo por núcleo) en lugar de
+ * tener un temporizador o un hilo por sala: cada tick es una tarea corta, así que unos pocos
+ * hilos bastan para miles de salas.
+ *
+ * Es seguro usarlo desde varios hilos: las salas se guardan en un {@link ConcurrentHashMap}
+ * y su estado se consulta mediante instantáneas inmutables ({@link RoomState}).
+ */
+public class RoomManager {
+    private final Map<Long, GameRoom> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong nextRoomId = new AtomicLong(1);
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Crea un gestor con un hilo de planificación por núcleo disponible.
+     */
+    public RoomManager() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Crea un gestor con la cantidad de hilos de planificación indicada.
+     *
+     * @param schedulerThreads El número de hilos que ejecutan los ticks de todas las salas.
+     */
+    public RoomManager(int schedulerThreads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ScheduledThreadPoolExecutor executor = (ScheduledThreadPoolExecutor) Executors.newScheduledThreadPool(
+                schedulerThreads, runnable -> {
+                    Thread thread = new Thread(runnable, "bingo-rooms-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.setRemoveOnCancelPolicy(true); // Las salas destruidas no dejan tareas en la cola.
+        this.scheduler = executor;
+    }
+
+    /**
+     * Crea una sala con los jugadores indicados y empieza a cantar bolas.
+     * Cada jugador debe tener fijada su cantidad de cartones ({@link Player#setTempCardCount(int)}).
+     *
+     * @param players Los jugadores de la sala.
+     * @param tickIntervalMillis Los milisegundos entre bola y bola.
+     * @return El identificador de la nueva sala.
+     */
+    public long createRoom(List<Player> players, long tickIntervalMillis) {
+        long id = nextRoomId.getAndIncrement();
+        GameRoom room = new GameRoom(id, players, tickIntervalMillis);
+        rooms.put(id, room);
+        room.start(scheduler);
+        return id;
+    }
+
+    /**
+     * Detiene y elimina una sala.
+     *
+     * @param roomId El identificador de la sala.
+     * @return true si la sala existía.
+     */
+    public boolean destroyRoom(long roomId) {
+        GameRoom room = rooms.remove(roomId);
+        if (room == null) {
+            return false;
+        }
+        room.stop();
+        return true;
+    }
+
+    /**
+     * Obtiene el último estado publicado de una sala.
+     *
+     * @param roomId El identificador de la sala.
+     * @return El {@link RoomState}, o null si la sala no existe.
+     */
+    public RoomState getRoomState(long roomId) {
+        GameRoom room = rooms.get(roomId);
+        return (room != null) ? room.getState() : null;
+    }
+
+    /**
+     * Obtiene el estado de todas las salas existentes.
+     *
+     * @return Una lista con una instantánea por sala.
+     */
+    public List<RoomState> getRoomStates() {
+        List<RoomState> states = new ArrayList<>(rooms.size());
+        for (GameRoom room : rooms.values()) {
+            states.add(room.getState());
+        }
+        return states;
+    }
+
+    /**
+     * Obtiene el mayor retraso con el que ha empezado un tick en cualquiera de las salas, respecto
+     * al instante en que estaba programado. Es la fluctuación del planificador compartido: si crece
+     * hasta el intervalo entre bolas, los hilos de planificación no dan abasto con tantas salas.
+     *
+     * @return El retraso máximo en nanosegundos.
+     */
+    public long getMaxTickLatenessNanos() {
+        long max = 0;
+        for (GameRoom room : rooms.values()) {
+            max = Math.max(max, room.getState().getMaxTickLatenessNanos());
+        }
+        return max;
+    }
+
+    /**
+     * Vuelve a medir desde cero el retraso de los ticks de todas las salas, a partir del siguiente
+     * tick de cada una. Se llama al terminar de crear las salas para que
+     * {@link #getMaxTickLatenessNanos()} informe de la fluctuación en régimen, sin los ticks que
+     * se retrasaron mientras se creaban las demás salas (y se calentaba la JVM).
+     */
+    public void resetTickLateness() {
+        for (GameRoom room : rooms.values()) {
+            room.resetTickLateness();
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de salas existentes (en juego o terminadas sin destruir).
+     *
+     * @return El número de salas.
+     */
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    /**
+     * Detiene todas las salas y el planificador.
+     */
+    public void shutdown() {
+        for (GameRoom room : rooms.values()) {
+            room.stop();
+        }
+        rooms.clear();
+        scheduler.shutdownNow();
+    }
+}
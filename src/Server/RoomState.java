@@ -0,0 +1,151 @@
+package Server;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Clase RoomState
+ *
+ * Instantánea inmutable del estado de una {@link GameRoom sala} en un momento dado.
+ * Se publica al final de cada tick, de modo que puede leerse desde cualquier hilo
+ * sin sincronizar con el hilo que hace avanzar la partida.
+ */
+public class RoomState {
+
+    /**
+     * Fases por las que pasa una sala.
+     */
+    public enum Status {
+        /** Creada, a la espera del primer tick. */
+        WAITING,
+        /** Cantando bolas. */
+        RUNNING,
+        /** Terminada: hubo Bingo o se agotaron las bolas. */
+        FINISHED,
+        /** Detenida por un error durante un tick. */
+        FAILED
+    }
+
+    private final long roomId;
+    private final Status status;
+    private final int[] calledBalls;
+    private final int ballsRemaining;
+    private final List<String> winners;
+    private final String strategyName;
+    private final long maxTickLatenessNanos;
+    private final Throwable failure;
+
+    /**
+     * Crea una instantánea del estado de una sala. Solo la crea {@link GameRoom}, que entrega una
+     * copia propia de las bolas cantadas; por eso el array se guarda sin volver a copiarlo.
+     *
+     * @param roomId El identificador de la sala.
+     * @param status La fase actual.
+     * @param calledBalls Las bolas cantadas, en orden. La instantánea pasa a ser su dueña.
+     * @param ballsRemaining Las bolas que quedan en el bombo.
+     * @param winners Los nombres de los ganadores (vacío si no hay).
+     * @param strategyName El nombre de la estrategia de victoria.
+     * @param maxTickLatenessNanos El mayor retraso de un tick respecto a su instante programado.
+     * @param failure La excepción que detuvo la sala, o {@code null} si no falló.
+     */
+    RoomState(long roomId, Status status, int[] calledBalls, int ballsRemaining,
+              List<String> winners, String strategyName, long maxTickLatenessNanos, Throwable failure) {
+        this.roomId = roomId;
+        this.status = status;
+        this.calledBalls = calledBalls;
+        this.ballsRemaining = ballsRemaining;
+        this.winners = Collections.unmodifiableList(winners);
+        this.strategyName = strategyName;
+        this.maxTickLatenessNanos = maxTickLatenessNanos;
+        this.failure = failure;
+    }
+
+    /**
+     * Obtiene el identificador de la sala.
+     *
+     * @return El identificador.
+     */
+    public long getRoomId() {
+        return roomId;
+    }
+
+    /**
+     * Obtiene la fase de la sala en esta instantánea.
+     *
+     * @return El {@link Status} de la sala.
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Obtiene las bolas cantadas hasta esta instantánea.
+     *
+     * @return Una copia del array de bolas cantadas, en orden.
+     */
+    public int[] getCalledBalls() {
+        return calledBalls.clone();
+    }
+
+    /**
+     * Obtiene la última bola cantada.
+     *
+     * @return La última bola, o -1 si todavía no se ha cantado ninguna.
+     */
+    public int getLastBall() {
+        return calledBalls.length == 0 ? -1 : calledBalls[calledBalls.length - 1];
+    }
+
+    /**
+     * Obtiene las bolas que quedaban en el bombo.
+     *
+     * @return El número de bolas restantes.
+     */
+    public int getBallsRemaining() {
+        return ballsRemaining;
+    }
+
+    /**
+     * Obtiene los nombres de los ganadores, en el orden en que hicieron Bingo.
+     *
+     * @return Una lista inmutable (vacía si no hay ganadores).
+     */
+    public List<String> getWinners() {
+        return winners;
+    }
+
+    /**
+     * Obtiene el nombre de la estrategia de victoria de la partida.
+     *
+     * @return El nombre de la estrategia.
+     */
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+    /**
+     * Obtiene el mayor retraso con el que ha empezado un tick de la sala respecto al instante en
+     * que estaba programado (la fluctuación del planificador compartido).
+     *
+     * @return El retraso máximo en nanosegundos (0 si aún no hubo ticks).
+     */
+    public long getMaxTickLatenessNanos() {
+        return maxTickLatenessNanos;
+    }
+
+    /**
+     * Obtiene la excepción que detuvo la sala, si está en {@link Status#FAILED}.
+     *
+     * @return La causa del fallo, o {@code null} si la sala no falló.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "Sala " + roomId + " [" + status + "] bolas=" + calledBalls.length
+                + " última=" + getLastBall() + " ganadores=" + winners
+                + (failure != null ? " error=" + failure : "");
+    }
+}
@@ -23,6 +23,21 @@ public class BingoBallVisualizer extends JPanel {
      */
     private int number = -1;
 
+    /**
+     * Fuente del número, creada una sola vez.
+     */
+    private static final Font NUMBER_FONT = new Font("Comic Sans MS", Font.BOLD, 36);
+
+    /**
+     * Color del número (naranja fuerte).
+     */
+    private static final Color NUMBER_COLOR = new Color(255, 87, 34);
+
+    /**
+     * Imagen de la bola sin el número, que se regenera solo cuando cambia el tamaño del componente.
+     */
+    private final CachedBackground cachedBall = new CachedBackground(this::paintBall);
+
     /**
      * Establece el número que se mostrará en la bola y solicita un repintado del componente.
      *
@@ -46,6 +61,7 @@ public class BingoBallVisualizer extends JPanel {
     /**
      * Sobrescribe el método paintComponent para realizar el dibujo personalizado de la bola de Bingo.
      * Este método es invocado automáticamente por Swing cuando el componente necesita ser dibujado.
+     * La bola se copia de una imagen pre-dibujada y solo el número se dibuja en cada repintado.
      *
      * @param g El contexto gráfico en el que se dibujará el componente.
      */
@@ -56,14 +72,41 @@ public class BingoBallVisualizer extends JPanel {
         // No dibujar nada si no hay un número válido establecido.
         if (number == -1) return;
 
-        // Crea una copia del contexto Graphics para evitar modificar el original y habilita el antialiasing.
         Graphics2D g2 = (Graphics2D) g.create();
+
+        // La bola (gradiente y bordes) solo depende del tamaño: se copia desde la imagen cacheada.
+        cachedBall.draw(g2, getWidth(), getHeight());
+
+        // Dibuja el número de la bola encima.
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        String text = String.valueOf(number);
+        g2.setFont(NUMBER_FONT); // Fuente estilo cartoon, negrita, tamaño grande.
+        FontMetrics fm = g2.getFontMetrics(); // Obtiene métricas de la fuente para centrar el texto.
+        int textWidth = fm.stringWidth(text); // Ancho del texto.
+        int textHeight = fm.getAscent(); // Altura de la línea base del texto.
+
+        g2.setColor(NUMBER_COLOR); // Color del texto (naranja fuerte).
+        g2.drawString(text,
+                getWidth() / 2 - textWidth / 2, // Centra el texto horizontalmente.
+                getHeight() / 2 + textHeight / 4); // Centra el texto verticalmente (ajuste fino).
+
+        g2.dispose(); // Libera los recursos gráficos asociados con el contexto Graphics2D.
+    }
+
+    /**
+     * Dibuja la bola sin el número; solo se invoca al regenerar la imagen cacheada (al cambiar el tamaño).
+     *
+     * @param g2 El contexto gráfico de la imagen.
+     * @param width El ancho del componente.
+     * @param height El alto del componente.
+     */
+    private void paintBall(Graphics2D g2, int width, int height) {
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         // Calcula el diámetro y la posición de la bola para que esté centrada.
-        int diameter = Math.min(getWidth(), getHeight()) - 10; // El diámetro de la bola, con un pequeño margen.
-        int x = (getWidth() - diameter) / 2; // Coordenada X para centrar la bola.
-        int y = (getHeight() - diameter) / 2; // Coordenada Y para centrar la bola.
+        int diameter = Math.min(width, height) - 10; // El diámetro de la bola, con un pequeño margen.
+        int x = (width - diameter) / 2; // Coordenada X para centrar la bola.
+        int y = (height - diameter) / 2; // Coordenada Y para centrar la bola.
 
         // Dibuja el fondo de la bola con un gradiente de color naranja a amarillo.
         GradientPaint gradient = new GradientPaint(
@@ -79,19 +122,5 @@ public class BingoBallVisualizer extends JPanel {
         g2.drawOval(x, y, diameter, diameter); // Dibuja el círculo exterior.
         g2.setStroke(new BasicStroke(2)); // Grosor del segundo borde (más delgado).
         g2.drawOval(x + 10, y + 10, diameter - 20, diameter - 20); // Dibuja el círculo interior.
-
-        // Dibuja el número de la bola.
-        String text = String.valueOf(number);
-        g2.setFont(new Font("Comic Sans MS", Font.BOLD, 36)); // Fuente estilo cartoon, negrita, tamaño grande.
-        FontMetrics fm = g2.getFontMetrics(); // Obtiene métricas de la fuente para centrar el texto.
-        int textWidth = fm.stringWidth(text); // Ancho del texto.
-        int textHeight = fm.getAscent(); // Altura de la línea base del texto.
-
-        g2.setColor(new Color(255, 87, 34)); // Color del texto (naranja fuerte).
-        g2.drawString(text,
-                getWidth() / 2 - textWidth / 2, // Centra el texto horizontalmente.
-                getHeight() / 2 + textHeight / 4); // Centra el texto verticalmente (ajuste fino).
-
-        g2.dispose(); // Libera los recursos gráficos asociados con el contexto Graphics2D.
     }
-}
\ No newline at end of file
+}
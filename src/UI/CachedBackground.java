@@ -0,0 +1,80 @@
+package UI;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * Clase CachedBackground
+ *
+ * Imagen pre-dibujada de la parte fija de un componente (por ejemplo, una bola con su gradiente
+ * y sus bordes), que se genera una sola vez por tamaño y se reutiliza en cada repintado.
+ * Se regenera cuando cambia el tamaño del componente o la escala del dispositivo (pantallas HiDPI),
+ * de modo que la imagen siempre tiene la resolución real de la pantalla.
+ *
+ * Solo se usa desde el hilo de eventos de Swing, por lo que no necesita sincronización.
+ */
+final class CachedBackground {
+
+    /**
+     * Acción que dibuja el fondo en coordenadas del componente (sin escala).
+     */
+    interface Painter {
+        void paint(Graphics2D g2, int width, int height);
+    }
+
+    private final Painter painter;
+    private BufferedImage image;    // Imagen cacheada, o null si hay que regenerarla.
+    private int width;              // Tamaño lógico con el que se generó.
+    private int height;
+    private double scaleX;          // Escala del dispositivo con la que se generó.
+    private double scaleY;
+
+    /**
+     * Constructor para CachedBackground.
+     *
+     * @param painter La acción que dibuja el fondo.
+     */
+    CachedBackground(Painter painter) {
+        this.painter = painter;
+    }
+
+    /**
+     * Dibuja el fondo en (0, 0) con el tamaño dado, regenerándolo solo si cambió el tamaño o la escala.
+     *
+     * @param g2 El contexto gráfico del componente.
+     * @param width El ancho del componente.
+     * @param height El alto del componente.
+     */
+    void draw(Graphics2D g2, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        AffineTransform transform = g2.getTransform();
+        double sx = transform.getScaleX();
+        double sy = transform.getScaleY();
+        if (image == null || width != this.width || height != this.height || sx != scaleX || sy != scaleY) {
+            image = render(g2.getDeviceConfiguration(), width, height, sx, sy);
+            this.width = width;
+            this.height = height;
+            this.scaleX = sx;
+            this.scaleY = sy;
+        }
+        g2.drawImage(image, 0, 0, width, height, null);
+    }
+
+    private BufferedImage render(GraphicsConfiguration config, int width, int height, double sx, double sy) {
+        int pixelWidth = Math.max(1, (int) Math.ceil(width * sx));
+        int pixelHeight = Math.max(1, (int) Math.ceil(height * sy));
+        BufferedImage rendered = (config != null)
+                ? config.createCompatibleImage(pixelWidth, pixelHeight, Transparency.TRANSLUCENT)
+                : new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = rendered.createGraphics();
+        g2.scale(sx, sy); // Dibuja en coordenadas lógicas a la resolución real del dispositivo.
+        painter.paint(g2, width, height);
+        g2.dispose();
+        return rendered;
+    }
+}
@@ -0,0 +1,194 @@
+package UI;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.BitSet;
+
+/**
+ * Clase CalledBallsBoard
+ *
+ * Tablero del historial de bolas cantadas (del 1 al 75) dibujado como un único componente,
+ * en lugar de un JLabel por número. Las bolas cantadas se guardan en un {@link BitSet} y,
+ * al cantar una, solo se repinta su casilla: no hay cambios de fuente ni pasadas de layout.
+ * Las fuentes, colores y textos se crean una sola vez.
+ *
+ * No implementa directamente un patrón de diseño GoF; es un componente de la capa de
+ * Presentación (UI) utilizado por {@link GameWindowGUI}.
+ */
+public class CalledBallsBoard extends JComponent implements Scrollable {
+
+    private static final int ROWS = 8;              // Filas del tablero (como la cuadrícula de 8x10 anterior).
+    private static final int COLUMNS = 10;          // Columnas del tablero.
+    private static final int GAP = 2;               // Separación entre casillas.
+    private static final int CELL_WIDTH = 40;       // Ancho preferido de una casilla.
+    private static final int CELL_HEIGHT = 28;      // Alto preferido de una casilla.
+
+    // Recursos compartidos: mismos colores y fuentes que tenían los JLabels del historial.
+    private static final Color BOARD_BACKGROUND = new Color(240, 255, 240);
+    private static final Color CELL_BACKGROUND = new Color(200, 230, 201);
+    private static final Color CELL_BORDER = new Color(129, 199, 132);
+    private static final Color CELL_FOREGROUND = new Color(51, 51, 51);
+    private static final Color CALLED_BACKGROUND = new Color(255, 152, 0);
+    private static final Color CALLED_FOREGROUND = Color.WHITE;
+    private static final Font CELL_FONT = new Font("Comic Sans MS", Font.PLAIN, 14);
+    private static final Font CALLED_FONT = new Font("Comic Sans MS", Font.BOLD, 16);
+
+    private final int maxBall;                      // Número de bola más alto del tablero.
+    private final String[] labels;                  // Texto de cada número, creado una sola vez.
+    private final BitSet called;                    // Bolas ya cantadas.
+
+    /**
+     * Constructor para CalledBallsBoard con las bolas del 1 al 75.
+     */
+    public CalledBallsBoard() {
+        this(75);
+    }
+
+    /**
+     * Constructor para CalledBallsBoard con las bolas del 1 a {@code maxBall}.
+     *
+     * @param maxBall El número de bola más alto (como máximo 80, las casillas del tablero).
+     */
+    public CalledBallsBoard(int maxBall) {
+        if (maxBall < 1 || maxBall > ROWS * COLUMNS) {
+            throw new IllegalArgumentException("El tablero admite de 1 a " + (ROWS * COLUMNS) + " bolas: " + maxBall);
+        }
+        this.maxBall = maxBall;
+        this.labels = new String[maxBall + 1];
+        for (int ball = 1; ball <= maxBall; ball++) {
+            labels[ball] = String.valueOf(ball);
+        }
+        this.called = new BitSet(maxBall + 1);
+        setOpaque(true);
+        setBackground(BOARD_BACKGROUND);
+    }
+
+    /**
+     * Marca una bola como cantada y repinta solo su casilla.
+     *
+     * @param ball El número de la bola cantada. Los números fuera del tablero se ignoran.
+     */
+    public void markCalled(int ball) {
+        if (ball < 1 || ball > maxBall || called.get(ball)) {
+            return;
+        }
+        called.set(ball);
+        repaint(cellBounds(ball - 1));
+    }
+
+    /**
+     * Indica si una bola ya fue cantada.
+     *
+     * @param ball El número de la bola.
+     * @return {@code true} si la bola está marcada en el tablero.
+     */
+    public boolean isCalled(int ball) {
+        return ball >= 1 && ball <= maxBall && called.get(ball);
+    }
+
+    /**
+     * Desmarca todas las bolas (para una partida nueva).
+     */
+    public void reset() {
+        called.clear();
+        repaint();
+    }
+
+    /**
+     * Calcula el rectángulo de una casilla, repartiendo el espacio como un GridLayout.
+     *
+     * @param index La posición de la casilla (0 para la bola 1).
+     * @return El rectángulo de la casilla en coordenadas del componente.
+     */
+    private Rectangle cellBounds(int index) {
+        Insets insets = getInsets();
+        int innerWidth = getWidth() - insets.left - insets.right + GAP;
+        int innerHeight = getHeight() - insets.top - insets.bottom + GAP;
+        int row = index / COLUMNS;
+        int col = index % COLUMNS;
+        int x0 = insets.left + col * innerWidth / COLUMNS;
+        int x1 = insets.left + (col + 1) * innerWidth / COLUMNS - GAP;
+        int y0 = insets.top + row * innerHeight / ROWS;
+        int y1 = insets.top + (row + 1) * innerHeight / ROWS - GAP;
+        return new Rectangle(x0, y0, Math.max(0, x1 - x0), Math.max(0, y1 - y0));
+    }
+
+    /**
+     * Pinta las casillas que intersectan con el área de recorte.
+     *
+     * @param g El contexto gráfico en el que se dibuja el componente.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        for (int ball = 1; ball <= maxBall; ball++) {
+            Rectangle cell = cellBounds(ball - 1);
+            if (!cell.intersects(clip)) {
+                continue;
+            }
+            boolean isCalled = called.get(ball);
+            g2.setColor(isCalled ? CALLED_BACKGROUND : CELL_BACKGROUND);
+            g2.fillRect(cell.x, cell.y, cell.width, cell.height);
+            g2.setColor(CELL_BORDER);
+            g2.drawRect(cell.x, cell.y, cell.width - 1, cell.height - 1);
+
+            g2.setFont(isCalled ? CALLED_FONT : CELL_FONT);
+            g2.setColor(isCalled ? CALLED_FOREGROUND : CELL_FOREGROUND);
+            FontMetrics fm = g2.getFontMetrics();
+            String text = labels[ball];
+            g2.drawString(text,
+                    cell.x + (cell.width - fm.stringWidth(text)) / 2,
+                    cell.y + (cell.height - fm.getHeight()) / 2 + fm.getAscent());
+        }
+        g2.dispose();
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        Insets insets = getInsets();
+        return new Dimension(COLUMNS * CELL_WIDTH + (COLUMNS - 1) * GAP + insets.left + insets.right,
+                ROWS * CELL_HEIGHT + (ROWS - 1) * GAP + insets.top + insets.bottom);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return (orientation == SwingConstants.VERTICAL) ? CELL_HEIGHT : CELL_WIDTH;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return (orientation == SwingConstants.VERTICAL) ? visibleRect.height : visibleRect.width;
+    }
+
+    /**
+     * Ocupa todo el ancho del viewport cuando hay espacio; si no, se desplaza.
+     */
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return getParent() instanceof JViewport && getParent().getWidth() > getPreferredSize().width;
+    }
+
+    /**
+     * Ocupa todo el alto del viewport cuando hay espacio; si no, se desplaza.
+     */
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return getParent() instanceof JViewport && getParent().getHeight() > getPreferredSize().height;
+    }
+}
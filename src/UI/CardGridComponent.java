@@ -0,0 +1,351 @@
+package UI;
+
+import Core.Card;
+import Patterns.Structural.Decorator.CellStyle;
+import Patterns.Structural.Decorator.ICellStyleProvider;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Clase CardGridComponent
+ *
+ * Componente ligero que pinta un cartón de Bingo directamente con Java2D, sin pasar por HTML.
+ * Sustituye al JEditorPane en {@link PlayerCardWindow}: no hay que generar ni interpretar un
+ * documento, y cada bola solo repinta los rectángulos de las casillas que cambiaron.
+ *
+ * Las marcas no se leen del cartón, que el {@link GameLoop} marca desde su propio hilo: se
+ * calculan en el hilo de eventos a partir de las bolas cantadas de la {@link RoundSnapshot}.
+ *
+ * Para que pintar cientos de cartones sea barato:
+ * - El estilo de cada casilla se calcula una vez y solo se recalcula cuando la casilla cambia.
+ * - Los fondos de las casillas (color, borde y ficha de marcado) se pre-dibujan en imágenes
+ * compartidas por todos los cartones, indexadas por estilo y tamaño.
+ * - Las fuentes se derivan una sola vez por tamaño de casilla.
+ * - {@code paintComponent} solo dibuja las casillas que intersectan con el área de recorte.
+ *
+ * Rol en el patrón Decorator: Client (Cliente)
+ * - Utiliza la interfaz {@link ICellStyleProvider Componente} para decidir el aspecto de cada
+ * casilla, de modo que los decoradores de estilo se pueden combinar libremente.
+ */
+public class CardGridComponent extends JComponent {
+
+    /**
+     * Estilo de la fila de encabezados B-I-N-G-O (mismos colores que los {@code <th>} del HTML).
+     */
+    private static final CellStyle HEADER_STYLE = new CellStyle(new Color(0xFFEB3B), new Color(0xD32F2F), null);
+
+    /**
+     * Color del borde de cada casilla.
+     */
+    private static final Color GRID_COLOR = new Color(0x8BC34A);
+
+    /**
+     * Fuente base de los números y encabezados; se deriva al tamaño de la casilla.
+     */
+    private static final Font BASE_FONT = new Font("Comic Sans MS", Font.BOLD, 12);
+
+    /**
+     * Texto de cada número de bola, creado una sola vez (el 0 es la casilla FREE).
+     */
+    private static final String[] NUMBER_TEXT = new String[100];
+
+    /**
+     * Fondos de casilla pre-dibujados, compartidos por todos los cartones.
+     * Solo se accede desde el hilo de eventos de Swing, por lo que no necesita sincronización.
+     */
+    private static final Map<CellImageKey, BufferedImage> CELL_IMAGES = new HashMap<>();
+
+    /**
+     * Número máximo de fondos pre-dibujados antes de vaciar la caché (p. ej., tras muchos redimensionados).
+     */
+    private static final int MAX_CELL_IMAGES = 512;
+
+    static {
+        NUMBER_TEXT[0] = "FREE";
+        for (int i = 1; i < NUMBER_TEXT.length; i++) {
+            NUMBER_TEXT[i] = Integer.toString(i);
+        }
+    }
+
+    private final ICellStyleProvider styleProvider; // Decide el estilo de cada casilla.
+    private Card card;                              // Cartón que se pinta.
+    private CellStyle[] cellStyles;                 // Estilo actual de cada casilla (fila * columnas + columna).
+    private long renderedMask;                      // Casillas marcadas cuando se calcularon los estilos.
+    private int lastCalledCell = -1;                // Casilla de la última bola cantada, o -1 si ninguna.
+
+    // Fuentes derivadas para el tamaño de casilla actual.
+    private int fontCellHeight = -1;
+    private Font numberFont;
+    private Font headerFont;
+
+    /**
+     * Constructor para CardGridComponent.
+     *
+     * @param card El cartón a pintar.
+     * @param styleProvider El proveedor (posiblemente decorado) del estilo de cada casilla.
+     */
+    public CardGridComponent(Card card, ICellStyleProvider styleProvider) {
+        this.styleProvider = Objects.requireNonNull(styleProvider, "styleProvider");
+        setOpaque(true);
+        setBackground(Color.WHITE);
+        setCard(card);
+    }
+
+    /**
+     * Obtiene el cartón que pinta este componente.
+     *
+     * @return El cartón actual.
+     */
+    public Card getCard() {
+        return card;
+    }
+
+    /**
+     * Cambia el cartón que pinta este componente y lo repinta por completo, sin bolas cantadas
+     * (solo con la casilla FREE marcada) hasta el siguiente {@link #update(BitSet, int)}.
+     * Permite reutilizar el mismo componente para otro cartón.
+     *
+     * @param card El nuevo cartón a pintar.
+     */
+    public void setCard(Card card) {
+        this.card = Objects.requireNonNull(card, "card");
+        int cells = card.getRows() * card.getCols();
+        if (cellStyles == null || cellStyles.length != cells) {
+            cellStyles = new CellStyle[cells];
+        }
+        renderedMask = card.getMarkedMask(new BitSet());
+        lastCalledCell = -1;
+        for (int cell = 0; cell < cells; cell++) {
+            cellStyles[cell] = computeStyle(cell);
+        }
+        repaint();
+    }
+
+    /**
+     * Actualiza el cartón tras cantar una bola: recalcula el estilo solo de las casillas que cambiaron
+     * (las recién marcadas y la que deja o pasa a ser la última bola) y repinta únicamente sus rectángulos.
+     *
+     * @param calledBalls Las bolas cantadas hasta el momento, de las que salen las marcas.
+     * @param lastCalledBall El último número de bola cantado, o -1 si no se cantó ninguno.
+     */
+    public void update(BitSet calledBalls, int lastCalledBall) {
+        long markedMask = card.getMarkedMask(calledBalls);
+        int newLastCalledCell = (lastCalledBall > 0) ? card.getCellIndex(lastCalledBall) : -1;
+
+        long dirtyCells = markedMask ^ renderedMask;
+        if (lastCalledCell >= 0) {
+            dirtyCells |= 1L << lastCalledCell;
+        }
+        if (newLastCalledCell >= 0) {
+            dirtyCells |= 1L << newLastCalledCell;
+        }
+        renderedMask = markedMask;
+        lastCalledCell = newLastCalledCell;
+
+        while (dirtyCells != 0) {
+            int cell = Long.numberOfTrailingZeros(dirtyCells);
+            dirtyCells &= dirtyCells - 1; // Pasa a la siguiente casilla pendiente.
+            cellStyles[cell] = computeStyle(cell);
+            repaintCell(cell);
+        }
+    }
+
+    /**
+     * Calcula el estilo de una casilla a partir del estado conocido del cartón.
+     *
+     * @param cell El índice de la casilla.
+     * @return El estilo decidido por el proveedor.
+     */
+    private CellStyle computeStyle(int cell) {
+        int cols = card.getCols();
+        int row = cell / cols;
+        int col = cell % cols;
+        boolean isMarked = (renderedMask & (1L << cell)) != 0;
+        boolean isLastCalled = (cell == lastCalledCell);
+        // Igual que en el HTML, el resaltado del patrón ganador aún no se calcula.
+        boolean inWinPattern = false;
+        return styleProvider.getStyle(card.getNumber(row, col), row, col, isMarked, isLastCalled, inWinPattern);
+    }
+
+    /**
+     * Solicita el repintado solo del rectángulo de una casilla.
+     *
+     * @param cell El índice de la casilla.
+     */
+    private void repaintCell(int cell) {
+        int cols = card.getCols();
+        Insets insets = getInsets();
+        int innerWidth = getWidth() - insets.left - insets.right;
+        int innerHeight = getHeight() - insets.top - insets.bottom;
+        int gridRow = cell / cols + 1; // +1 por la fila de encabezados.
+        int col = cell % cols;
+        int x0 = insets.left + col * innerWidth / cols;
+        int x1 = insets.left + (col + 1) * innerWidth / cols;
+        int y0 = insets.top + gridRow * innerHeight / (card.getRows() + 1);
+        int y1 = insets.top + (gridRow + 1) * innerHeight / (card.getRows() + 1);
+        repaint(x0, y0, x1 - x0, y1 - y0);
+    }
+
+    /**
+     * Pinta las casillas que intersectan con el área de recorte.
+     *
+     * @param g El contexto gráfico en el que se dibuja el componente.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        Insets insets = getInsets();
+        int innerWidth = getWidth() - insets.left - insets.right;
+        int innerHeight = getHeight() - insets.top - insets.bottom;
+        if (innerWidth <= 0 || innerHeight <= 0) {
+            return;
+        }
+
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        int rows = card.getRows();
+        int cols = card.getCols();
+        int gridRows = rows + 1; // Fila de encabezados + filas del cartón.
+        updateFonts(innerHeight / gridRows);
+
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        // Rango de filas y columnas que tocan el área de recorte.
+        int firstRow = Math.max(0, (clip.y - insets.top) * gridRows / innerHeight);
+        int lastRow = Math.min(gridRows - 1, (clip.y + clip.height - 1 - insets.top) * gridRows / innerHeight);
+        int firstCol = Math.max(0, (clip.x - insets.left) * cols / innerWidth);
+        int lastCol = Math.min(cols - 1, (clip.x + clip.width - 1 - insets.left) * cols / innerWidth);
+
+        String[] headers = Card.getColumnHeaders();
+        for (int gridRow = firstRow; gridRow <= lastRow; gridRow++) {
+            int y0 = insets.top + gridRow * innerHeight / gridRows;
+            int y1 = insets.top + (gridRow + 1) * innerHeight / gridRows;
+            for (int col = firstCol; col <= lastCol; col++) {
+                int x0 = insets.left + col * innerWidth / cols;
+                int x1 = insets.left + (col + 1) * innerWidth / cols;
+                if (gridRow == 0) {
+                    String header = (col < headers.length) ? headers[col] : "";
+                    paintCell(g2, HEADER_STYLE, header, headerFont, x0, y0, x1 - x0, y1 - y0);
+                } else {
+                    int cell = (gridRow - 1) * cols + col;
+                    int number = card.getNumber(gridRow - 1, col);
+                    String text = (number >= 0 && number < NUMBER_TEXT.length) ? NUMBER_TEXT[number] : Integer.toString(number);
+                    paintCell(g2, cellStyles[cell], text, numberFont, x0, y0, x1 - x0, y1 - y0);
+                }
+            }
+        }
+        g2.dispose();
+    }
+
+    /**
+     * Pinta una casilla: su fondo pre-dibujado y el texto centrado encima.
+     */
+    private void paintCell(Graphics2D g2, CellStyle style, String text, Font font, int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        g2.drawImage(cellImage(style, width, height), x, y, null);
+        g2.setFont(font);
+        g2.setColor(style.getForeground());
+        FontMetrics fm = g2.getFontMetrics();
+        int textX = x + (width - fm.stringWidth(text)) / 2;
+        int textY = y + (height - fm.getHeight()) / 2 + fm.getAscent();
+        g2.drawString(text, textX, textY);
+    }
+
+    /**
+     * Deriva las fuentes para la altura de casilla indicada, solo si cambió desde la última vez.
+     *
+     * @param cellHeight La altura de una casilla en píxeles.
+     */
+    private void updateFonts(int cellHeight) {
+        if (cellHeight == fontCellHeight) {
+            return;
+        }
+        fontCellHeight = cellHeight;
+        float numberSize = Math.max(8f, cellHeight * 0.5f);
+        numberFont = BASE_FONT.deriveFont(numberSize);
+        headerFont = BASE_FONT.deriveFont(Math.max(8f, numberSize * 0.9f));
+    }
+
+    /**
+     * Obtiene el fondo pre-dibujado de una casilla con el estilo y tamaño dados, creándolo la primera vez.
+     *
+     * @param style El estilo de la casilla.
+     * @param width El ancho de la casilla.
+     * @param height El alto de la casilla.
+     * @return La imagen del fondo de la casilla.
+     */
+    private static BufferedImage cellImage(CellStyle style, int width, int height) {
+        CellImageKey key = new CellImageKey(style, width, height);
+        BufferedImage image = CELL_IMAGES.get(key);
+        if (image == null) {
+            if (CELL_IMAGES.size() >= MAX_CELL_IMAGES) {
+                CELL_IMAGES.clear(); // Los tamaños antiguos ya no se usan; se regeneran bajo demanda.
+            }
+            image = renderCellImage(style, width, height);
+            CELL_IMAGES.put(key, image);
+        }
+        return image;
+    }
+
+    /**
+     * Dibuja el fondo de una casilla: color de fondo, borde y, si el estilo la tiene, la ficha de marcado.
+     */
+    private static BufferedImage renderCellImage(CellStyle style, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setColor(style.getBackground());
+        g2.fillRect(0, 0, width, height);
+        if (style.getMarker() != null) {
+            int diameter = Math.max(1, Math.min(width, height) - 6);
+            g2.setColor(style.getMarker());
+            g2.fillOval((width - diameter) / 2, (height - diameter) / 2, diameter, diameter);
+        }
+        g2.setColor(GRID_COLOR);
+        g2.drawRect(0, 0, width - 1, height - 1);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Clave de la caché de fondos: estilo y tamaño de la casilla.
+     */
+    private static final class CellImageKey {
+        private final CellStyle style;
+        private final int width;
+        private final int height;
+
+        private CellImageKey(CellStyle style, int width, int height) {
+            this.style = style;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CellImageKey)) {
+                return false;
+            }
+            CellImageKey other = (CellImageKey) o;
+            return width == other.width && height == other.height && style.equals(other.style);
+        }
+
+        @Override
+        public int hashCode() {
+            return (style.hashCode() * 31 + width) * 31 + height;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package UI;
+
+import Core.Card;
+import Patterns.Structural.Decorator.ICellStyleProvider;
+
+import javax.swing.*;
+import javax.swing.event.ChangeListener;
+import java.awt.*;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Clase CardWallPanel
+ *
+ * Muro de cartones virtualizado, pensado para mostrarse dentro de un {@link JScrollPane}.
+ * Ocupa el alto de todos los cartones, pero solo crea componentes ({@link CardGridComponent})
+ * para los cartones que se ven en el viewport. Al desplazarse, los componentes que salen de la
+ * vista se ocultan y se reutilizan para los cartones que entran, así que la memoria y el coste
+ * de layout dependen del tamaño de la ventana y no de cuántos cartones tenga el jugador.
+ *
+ * Los componentes se reciclan sobre los mismos objetos {@link Card}: al asignarles otro cartón
+ * calculan sus marcas con las bolas cantadas que conoce el muro, por lo que un cartón que vuelve
+ * a la vista aparece al día.
+ *
+ * No implementa directamente un patrón de diseño GoF; es un componente de la capa de
+ * presentación utilizado por {@link PlayerCardWindow}.
+ */
+public class CardWallPanel extends JComponent implements Scrollable {
+
+    private final List<Card> cards;                       // Cartones del muro, en orden.
+    private final ICellStyleProvider styleProvider;       // Estilos con los que se pintan las casillas.
+    private final int cardWidth;                          // Ancho de cada cartón.
+    private final int cardHeight;                         // Alto de cada cartón.
+    private final int gap;                                // Espacio entre cartones y con los bordes.
+
+    private int columns = 1;                              // Columnas según el ancho actual.
+    private int preferredColumns = 2;                     // Columnas visibles deseadas para el viewport.
+    private int preferredRows = 2;                        // Filas visibles deseadas para el viewport.
+    private final BitSet calledBalls = new BitSet();      // Bolas cantadas según las instantáneas aplicadas.
+    private int appliedBallCount;                         // Bolas del historial ya añadidas a 'calledBalls'.
+    private int lastCalledBall = -1;                      // Última bola cantada, para los cartones que entran en vista.
+
+    private final Map<Integer, CardGridComponent> visibleCards = new HashMap<>(); // Índice de cartón -> componente.
+    private final ArrayDeque<CardGridComponent> pool = new ArrayDeque<>();        // Componentes ocultos reutilizables.
+    private final ChangeListener viewportListener = e -> layoutVisibleCards();
+    private JViewport viewport;
+
+    /**
+     * Constructor para CardWallPanel.
+     *
+     * @param cards Los cartones a mostrar. La lista no se copia: el muro muestra siempre sus cartones actuales.
+     * @param styleProvider El proveedor de estilos de casilla.
+     * @param cardWidth El ancho de cada cartón en píxeles.
+     * @param cardHeight El alto de cada cartón en píxeles.
+     * @param gap El espacio entre cartones en píxeles.
+     */
+    public CardWallPanel(List<Card> cards, ICellStyleProvider styleProvider, int cardWidth, int cardHeight, int gap) {
+        this.cards = Objects.requireNonNull(cards, "cards");
+        this.styleProvider = Objects.requireNonNull(styleProvider, "styleProvider");
+        this.cardWidth = cardWidth;
+        this.cardHeight = cardHeight;
+        this.gap = gap;
+        setLayout(null); // Los cartones visibles se posicionan a mano.
+        setOpaque(false);
+    }
+
+    /**
+     * Establece cuántas columnas y filas de cartones debería mostrar el viewport
+     * (se usa para calcular su tamaño preferido).
+     *
+     * @param columns Columnas visibles deseadas.
+     * @param rows Filas visibles deseadas.
+     */
+    public void setPreferredGrid(int columns, int rows) {
+        this.preferredColumns = Math.max(1, columns);
+        this.preferredRows = Math.max(1, rows);
+        revalidate();
+    }
+
+    /**
+     * Actualiza los cartones visibles con una instantánea de la partida. Los que no están en vista
+     * no se tocan: se ponen al día cuando vuelven a materializarse.
+     *
+     * @param snapshot La instantánea más reciente de la partida.
+     */
+    public void updateCards(RoundSnapshot snapshot) {
+        for (int i = appliedBallCount; i < snapshot.getCalledCount(); i++) {
+            calledBalls.set(snapshot.getCalledBall(i));
+        }
+        appliedBallCount = snapshot.getCalledCount();
+        lastCalledBall = (appliedBallCount > 0) ? snapshot.getCalledBall(appliedBallCount - 1) : -1;
+        for (CardGridComponent component : visibleCards.values()) {
+            component.update(calledBalls, lastCalledBall);
+        }
+    }
+
+    /**
+     * Obtiene el número de componentes de cartón creados hasta ahora (visibles y reutilizables).
+     *
+     * @return La cantidad de componentes creados.
+     */
+    public int getMaterializedCount() {
+        return visibleCards.size() + pool.size();
+    }
+
+    /**
+     * Calcula el número de columnas que caben en el ancho dado.
+     */
+    private int columnsFor(int width) {
+        return Math.max(1, (width - gap) / (cardWidth + gap));
+    }
+
+    /**
+     * Calcula el número de filas necesarias para todos los cartones con las columnas actuales.
+     */
+    private int rowCount() {
+        return (cards.size() + columns - 1) / columns;
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int width = columns * (cardWidth + gap) + gap;
+        int height = rowCount() * (cardHeight + gap) + gap;
+        return new Dimension(width, height);
+    }
+
+    @Override
+    public void doLayout() {
+        int newColumns = columnsFor(getWidth());
+        if (newColumns != columns) {
+            columns = newColumns;
+            recycleAll();   // Cambian las posiciones de todos los cartones.
+            revalidate();   // El alto total depende de las columnas.
+        }
+        layoutVisibleCards();
+    }
+
+    /**
+     * Materializa los cartones que intersectan con el área visible y recicla los que salieron de ella.
+     */
+    private void layoutVisibleCards() {
+        Rectangle visible = getVisibleRect();
+        if (visible.isEmpty() || cards.isEmpty()) {
+            recycleAll();
+            return;
+        }
+
+        int rowHeight = cardHeight + gap;
+        int firstRow = Math.max(0, (visible.y - gap) / rowHeight);
+        int lastRow = Math.min(rowCount() - 1, (visible.y + visible.height - 1) / rowHeight);
+        int first = firstRow * columns;
+        int last = Math.min(cards.size() - 1, (lastRow + 1) * columns - 1);
+
+        // Devuelve al pool los componentes cuyos cartones quedaron fuera de la vista.
+        Iterator<Map.Entry<Integer, CardGridComponent>> it = visibleCards.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, CardGridComponent> entry = it.next();
+            int index = entry.getKey();
+            if (index < first || index > last) {
+                release(entry.getValue());
+                it.remove();
+            }
+        }
+
+        // Materializa los cartones que entraron en la vista, reutilizando componentes cuando es posible.
+        for (int index = first; index <= last; index++) {
+            if (visibleCards.containsKey(index)) {
+                continue;
+            }
+            CardGridComponent component = pool.poll();
+            Card card = cards.get(index);
+            if (component == null) {
+                component = new CardGridComponent(card, styleProvider);
+                component.setBorder(BorderFactory.createLineBorder(new Color(0, 150, 136), 4)); // Color teal, grosor 4px.
+                add(component);
+            } else {
+                component.setCard(card);
+            }
+            component.update(calledBalls, lastCalledBall); // Marcas según las bolas ya cantadas.
+            int row = index / columns;
+            int col = index % columns;
+            component.setBounds(gap + col * (cardWidth + gap), gap + row * rowHeight, cardWidth, cardHeight);
+            component.setVisible(true);
+            visibleCards.put(index, component);
+        }
+    }
+
+    /**
+     * Oculta todos los componentes visibles y los devuelve al pool.
+     */
+    private void recycleAll() {
+        for (CardGridComponent component : visibleCards.values()) {
+            release(component);
+        }
+        visibleCards.clear();
+    }
+
+    /**
+     * Oculta un componente y lo deja disponible para otro cartón.
+     */
+    private void release(CardGridComponent component) {
+        component.setVisible(false);
+        pool.push(component);
+    }
+
+    /**
+     * Al añadirse a un {@link JViewport}, escucha sus desplazamientos para materializar los cartones visibles.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (getParent() instanceof JViewport) {
+            viewport = (JViewport) getParent();
+            viewport.addChangeListener(viewportListener);
+        }
+    }
+
+    @Override
+    public void removeNotify() {
+        if (viewport != null) {
+            viewport.removeChangeListener(viewportListener);
+            viewport = null;
+        }
+        super.removeNotify();
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        int visibleColumns = Math.min(preferredColumns, Math.max(1, cards.size()));
+        int visibleRows = Math.min(preferredRows, Math.max(1, (cards.size() + visibleColumns - 1) / visibleColumns));
+        return new Dimension(visibleColumns * (cardWidth + gap) + gap, visibleRows * (cardHeight + gap) + gap);
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return (orientation == SwingConstants.VERTICAL) ? (cardHeight + gap) / 4 : (cardWidth + gap) / 4;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return (orientation == SwingConstants.VERTICAL) ? visibleRect.height : visibleRect.width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true; // Las columnas se adaptan al ancho; solo se desplaza en vertical.
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+}
@@ -0,0 +1,155 @@
+package UI;
+
+import Patterns.Structural.Facade.GameFacade;
+
+import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Clase GameLoop
+ *
+ * Bucle de juego que canta las bolas en un hilo propio, fuera del hilo de eventos de Swing (EDT).
+ * Cada ronda (cantar la bola, marcar los cartones y detectar ganadores) se ejecuta en el hilo
+ * "bingo-game-loop"; al terminar, se publica una {@link RoundSnapshot} inmutable y se entrega
+ * a la GUI con {@link SwingUtilities#invokeLater}.
+ *
+ * Las entregas se agrupan: si el EDT está ocupado y se publican varias instantáneas antes de
+ * que pueda aplicarlas, solo se aplica la más reciente (que incluye el historial completo),
+ * y nunca hay más de una tarea pendiente en la cola de eventos.
+ *
+ * No implementa directamente un patrón de diseño GoF; usa la {@link GameFacade} como cliente,
+ * igual que {@link GameWindowGUI}, que es quien lo crea.
+ */
+public class GameLoop {
+
+    private final GameFacade facade;                         // Fachada sobre la partida que se juega.
+    private final long roundDelayMillis;                     // Tiempo entre rondas.
+    private final Consumer<RoundSnapshot> snapshotConsumer;  // Aplica las instantáneas en el EDT.
+    private final ScheduledExecutorService executor;         // Hilo único del bucle de juego.
+    private final AtomicReference<RoundSnapshot> pending = new AtomicReference<>(); // Última instantánea sin aplicar.
+    private ScheduledFuture<?> rounds;                       // Tarea periódica activa, o null si está en pausa.
+    private boolean finished;                                // Si la partida ya terminó (solo en el hilo del bucle).
+
+    /**
+     * Constructor para GameLoop. El bucle no empieza hasta llamar a {@link #start()}.
+     *
+     * @param facade La fachada de la partida a jugar.
+     * @param roundDelayMillis Milisegundos entre rondas.
+     * @param snapshotConsumer Acción que aplica cada instantánea; se invoca siempre en el EDT.
+     */
+    public GameLoop(GameFacade facade, long roundDelayMillis, Consumer<RoundSnapshot> snapshotConsumer) {
+        this.facade = facade;
+        this.roundDelayMillis = roundDelayMillis;
+        this.snapshotConsumer = snapshotConsumer;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "bingo-game-loop");
+            thread.setDaemon(true); // No impide que la aplicación termine.
+            return thread;
+        });
+    }
+
+    /**
+     * Inicia (o reanuda) el bucle: la primera ronda se juega tras un intervalo completo.
+     */
+    public synchronized void start() {
+        if (rounds == null && !executor.isShutdown()) {
+            rounds = executor.scheduleWithFixedDelay(this::playRound, roundDelayMillis, roundDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Pausa el bucle. Si hay una ronda en curso, termina y su instantánea se publica igualmente.
+     */
+    public synchronized void pause() {
+        if (rounds != null) {
+            rounds.cancel(false);
+            rounds = null;
+        }
+    }
+
+    /**
+     * Indica si el bucle está jugando rondas (iniciado y no pausado).
+     *
+     * @return {@code true} si hay rondas programadas.
+     */
+    public synchronized boolean isRunning() {
+        return rounds != null;
+    }
+
+    /**
+     * Detiene el bucle definitivamente y libera su hilo. El diario de la partida, si lo hay,
+     * se cierra en el propio hilo del bucle, después de la ronda que pudiera estar en curso.
+     */
+    public synchronized void shutdown() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        pause();
+        executor.execute(this::closeJournal);
+        executor.shutdown();
+    }
+
+    /**
+     * Vuelca y cierra el diario de la partida.
+     */
+    private void closeJournal() {
+        try {
+            facade.closeJournal();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Juega una ronda en el hilo del bucle y publica su instantánea.
+     */
+    private void playRound() {
+        if (finished) {
+            return;
+        }
+        RoundSnapshot snapshot;
+        try {
+            int ball = facade.playRound(); // Canta la bola y marca los cartones que la contienen.
+            boolean done = ball == -1 || facade.getGame().hasWinner() || !facade.areBallsLeft();
+            snapshot = new RoundSnapshot(ball, facade.getGame().getCalledBallsArray(), facade.getBallsRemaining(),
+                    facade.getGame().getWinners(), done, false);
+        } catch (RuntimeException e) {
+            // Una excepción cancelaría la tarea en silencio: se informa a la GUI con una instantánea de error.
+            e.printStackTrace();
+            snapshot = new RoundSnapshot(-1, facade.getGame().getCalledBallsArray(), facade.getBallsRemaining(),
+                    facade.getGame().getWinners(), true, true);
+        }
+        if (snapshot.isFinished()) {
+            finished = true;
+            pause();
+        }
+        publish(snapshot);
+    }
+
+    /**
+     * Deja la instantánea como la pendiente y, si no había otra esperando, programa su aplicación en el EDT.
+     *
+     * @param snapshot La instantánea a publicar.
+     */
+    private void publish(RoundSnapshot snapshot) {
+        if (pending.getAndSet(snapshot) == null) {
+            SwingUtilities.invokeLater(this::applyPending);
+        }
+    }
+
+    /**
+     * Aplica en el EDT la instantánea más reciente, descartando las intermedias.
+     */
+    private void applyPending() {
+        RoundSnapshot snapshot = pending.getAndSet(null);
+        if (snapshot != null) {
+            snapshotConsumer.accept(snapshot);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package UI;
 
 import Players.Player; 
-import Patterns.Behavioral.Strategy.WinStrategy; 
 import Patterns.Structural.Decorator.*; 
 import Patterns.Structural.Facade.GameFacade; 
 
@@ -9,8 +8,11 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.net.URL; // Para cargar imágenes desde recursos
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.swing.border.TitledBorder;
 
 /**
@@ -22,7 +24,8 @@ import javax.swing.border.TitledBorder;
  *
  * Utiliza el patrón Facade ({@link GameFacade}) para interactuar con la lógica del juego de una manera simplificada.
  * Emplea el patrón Decorator para formatear la visualización de los números en los cartones de los jugadores.
- * También utiliza un Timer para simular el progreso del juego por rondas.
+ * Las rondas se juegan fuera del hilo de eventos de Swing, en un {@link GameLoop}, que entrega
+ * a esta ventana una {@link RoundSnapshot} inmutable por ronda para que actualice la visualización.
  */
 public class GameWindowGUI extends JFrame {
 
@@ -38,6 +41,12 @@ public class GameWindowGUI extends JFrame {
      */
     private ICardNumberFormatter cardNumberFormatter;
 
+    /**
+     * El proveedor de estilos de casilla con el que se pintan los cartones, también compuesto de decoradores.
+     * Rol en el patrón Decorator: Cliente que construye la cadena de decoradores.
+     */
+    private ICellStyleProvider cellStyleProvider;
+
     /**
      * Componente visual para mostrar la última bola de Bingo cantada.
      */
@@ -57,19 +66,39 @@ public class GameWindowGUI extends JFrame {
     /**
      * Panel donde se muestran todas las bolas cantadas hasta el momento.
      */
-    private JPanel calledBallsDisplayPanel;
-    private List<JLabel> ballLabels; // Lista de JLabels para cada número de bola (del 1 al 75).
+    private CalledBallsBoard calledBallsBoard; // Tablero pintado con las bolas del 1 al 75.
 
     /**
-     * Temporizador para controlar el flujo de las rondas del juego.
+     * Bucle que juega las rondas en su propio hilo y publica una instantánea por ronda.
      */
-    private Timer gameTimer;
+    private GameLoop gameLoop;
     private final int ROUND_DELAY_MS = 3000; // Retraso entre rondas en milisegundos.
 
     /**
-     * Lista de ventanas individuales para los cartones de cada jugador.
+     * Fichero donde se guarda la instantánea de la partida en curso, para reanudarla tras un reinicio.
+     */
+    public static final Path SNAPSHOT_FILE = Paths.get("partida.bsnp");
+    private static final long SNAPSHOT_PERIOD_MS = 5000; // Tiempo entre instantáneas en milisegundos.
+
+    /**
+     * Cantidad de bolas del historial ya resaltadas en el panel de bolas cantadas.
+     */
+    private int appliedBallCount;
+
+    /**
+     * Última instantánea aplicada en la GUI; con ella se muestran las ventanas de jugador al crearlas.
      */
-    private List<PlayerCardWindow> playerWindows;
+    private RoundSnapshot lastSnapshot;
+
+    /**
+     * Indica si la partida ya terminó en la GUI (se ignoran instantáneas posteriores).
+     */
+    private boolean gameOver;
+
+    /**
+     * Ventanas individuales para los cartones de cada jugador, indexadas por su jugador.
+     */
+    private Map<Player, PlayerCardWindow> playerWindows;
 
     /**
      * Constructor para GameWindowGUI.
@@ -78,7 +107,7 @@ public class GameWindowGUI extends JFrame {
      */
     public GameWindowGUI(GameFacade facade) {
         this.facade = facade;
-        this.playerWindows = new ArrayList<>();
+        this.playerWindows = new LinkedHashMap<>();
 
         setTitle("Juego de Bingo - Principal");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -92,21 +121,44 @@ public class GameWindowGUI extends JFrame {
                         new WinningNumberDecorator(
                                 new BaseNumberFormatter())));
 
-        // Asigna el formateador decorado a todos los jugadores.
+        // Estilos de las casillas de los cartones pintados. El decorador más externo prevalece,
+        // así que el orden es Winning sobre LastCalled sobre Marked sobre el proveedor base.
+        this.cellStyleProvider = new WinningCellStyleDecorator(
+                new LastCalledCellStyleDecorator(
+                        new MarkedCellStyleDecorator(
+                                new BaseCellStyleProvider())));
+
+        // Asigna el formateador y los estilos decorados a todos los jugadores.
         // Esto permite que los cartones de cada jugador se visualicen con los estilos aplicados.
         for (Player player : facade.getPlayers()) {
             player.setCardNumberFormatter(cardNumberFormatter);
+            player.setCellStyleProvider(cellStyleProvider);
         }
 
-        ballLabels = new ArrayList<>(); // Inicializa la lista para los labels de las bolas cantadas.
         initUI(); // Inicializa los componentes de la interfaz de usuario.
 
-        // Configura el Timer que controlará el paso de cada ronda.
-        gameTimer = new Timer(ROUND_DELAY_MS, this::playNextRound);
+        // Configura el bucle que jugará cada ronda fuera del EDT y entregará aquí sus instantáneas.
+        gameLoop = new GameLoop(facade, ROUND_DELAY_MS, this::applyRoundSnapshot);
+        // Guarda instantáneas de la partida en su propio hilo, para poder reanudarla si la aplicación se cierra.
+        facade.startSnapshots(SNAPSHOT_FILE, SNAPSHOT_PERIOD_MS);
+
+        // En una partida reanudada, muestra las bolas que ya se habían cantado.
+        int[] calledBalls = facade.getGame().getCalledBallsArray();
+        for (int ball : calledBalls) {
+            calledBallsBoard.markCalled(ball);
+        }
+        appliedBallCount = calledBalls.length;
+        if (calledBalls.length > 0) {
+            ballVisualizer.setNumber(calledBalls[calledBalls.length - 1]);
+        }
+        lastSnapshot = new RoundSnapshot(calledBalls.length > 0 ? calledBalls[calledBalls.length - 1] : -1,
+                calledBalls, facade.getBallsRemaining(), facade.getGame().getWinners(), false, false);
 
         // Muestra la estrategia de victoria elegida al inicio del juego.
+        // Junto a ella se muestra la semilla, con la que la partida se puede reproducir en caso de reclamación.
         String strategyName = facade.getGame().getWinStrategy().getName();
-        winStrategyDisplayPane.setText("<html><body><b>Estrategia de Victoria:</b> <br>" + strategyName + "</body></html>");
+        String seedText = facade.getSeed().isPresent() ? " <small>(semilla " + facade.getSeed().getAsLong() + ")</small>" : "";
+        winStrategyDisplayPane.setText("<html><body><b>Estrategia de Victoria:</b> <br>" + strategyName + seedText + "</body></html>");
 
         // Crea y muestra las ventanas de los jugadores en un hilo aparte para evitar bloqueos.
         SwingUtilities.invokeLater(this::createAndDisplayPlayerWindows);
@@ -148,7 +200,7 @@ public class GameWindowGUI extends JFrame {
         startGameButton.setBorder(BorderFactory.createRaisedBevelBorder());
         startGameButton.addActionListener(e -> {
             startGameButton.setEnabled(false); // Deshabilita el botón al iniciar.
-            gameTimer.start(); // Inicia el temporizador del juego.
+            gameLoop.start(); // Inicia el bucle de juego.
         });
         buttonsPanel.add(startGameButton);
 
@@ -190,26 +242,14 @@ public class GameWindowGUI extends JFrame {
         centerPanel.add(bolaCantadaPanel);
         centerPanel.add(Box.createRigidArea(new Dimension(0, 30))); // Espacio vertical.
 
-        // Panel para mostrar el historial de bolas cantadas (cuadrícula del 1 al 75).
-        calledBallsDisplayPanel = new JPanel(new GridLayout(8, 10, 2, 2)); // Cuadrícula de 8x10.
-        calledBallsDisplayPanel.setBorder(BorderFactory.createTitledBorder(
+        // Tablero para mostrar el historial de bolas cantadas (cuadrícula de 8x10 con los números del 1 al 75).
+        calledBallsBoard = new CalledBallsBoard();
+        calledBallsBoard.setBorder(BorderFactory.createTitledBorder(
                 BorderFactory.createEtchedBorder(), "Bolas Cantadas", // Título del borde.
                 TitledBorder.CENTER, TitledBorder.TOP,
                 new Font("Comic Sans MS", Font.BOLD, 14), new Color(0, 100, 0))); // Fuente y color del título.
-        calledBallsDisplayPanel.setBackground(new Color(240, 255, 240)); // Fondo verde muy claro.
-
-        // Crea los JLabels para cada número del 1 al 75.
-        for (int i = 1; i <= 75; i++) {
-            JLabel ballNumLabel = new JLabel(String.valueOf(i), SwingConstants.CENTER);
-            ballNumLabel.setOpaque(true);
-            ballNumLabel.setBackground(new Color(200, 230, 201)); // Color de fondo inicial.
-            ballNumLabel.setBorder(BorderFactory.createLineBorder(new Color(129, 199, 132), 1)); // Borde.
-            ballNumLabel.setFont(new Font("Comic Sans MS", Font.PLAIN, 14));
-            ballLabels.add(ballNumLabel);
-            calledBallsDisplayPanel.add(ballNumLabel);
-        }
 
-        JScrollPane ballScrollPane = new JScrollPane(calledBallsDisplayPanel);
+        JScrollPane ballScrollPane = new JScrollPane(calledBallsBoard);
         ballScrollPane.setPreferredSize(new Dimension(780, 320)); // Tamaño preferido para el scroll.
         centerPanel.add(ballScrollPane);
 
@@ -266,36 +306,7 @@ public class GameWindowGUI extends JFrame {
      * @return Un JPanel con la bola de letra dibujada.
      */
     private JPanel createLetterBall(String letra, Color colorFondo) {
-        JPanel panel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                int size = Math.min(getWidth(), getHeight()) - 8; // Tamaño de la bola.
-                int x = (getWidth() - size) / 2;
-                int y = (getHeight() - size) / 2;
-
-                g2.setColor(colorFondo); // Color de fondo de la bola.
-                g2.fillOval(x, y, size, size); // Dibuja la bola.
-
-                g2.setColor(Color.WHITE); // Borde blanco.
-                g2.setStroke(new BasicStroke(4));
-                g2.drawOval(x, y, size, size);
-
-                g2.setFont(new Font("Comic Sans MS", Font.BOLD, 28)); // Fuente de la letra.
-                FontMetrics fm = g2.getFontMetrics();
-                int textWidth = fm.stringWidth(letra);
-                int textHeight = fm.getAscent();
-                g2.setColor(Color.WHITE);
-                g2.drawString(letra, getWidth() / 2 - textWidth / 2, getHeight() / 2 + textHeight / 4); // Dibuja la letra centrada.
-
-                g2.dispose();
-            }
-        };
-        panel.setPreferredSize(new Dimension(60, 60)); // Tamaño preferido para cada bola de letra.
-        panel.setOpaque(false);
-        return panel;
+        return new LetterBallPanel(letra, colorFondo); // Se pre-dibuja una vez por tamaño.
     }
 
     /**
@@ -306,25 +317,37 @@ public class GameWindowGUI extends JFrame {
         List<Player> players = facade.getPlayers();
         for (int i = 0; i < players.size(); i++) {
             Player player = players.get(i);
-            PlayerCardWindow playerWindow = new PlayerCardWindow(player, this); // Pasa esta ventana como padre.
+            PlayerCardWindow playerWindow = new PlayerCardWindow(player, this, lastSnapshot); // Pasa esta ventana como padre.
             playerWindow.setLocationBasedOnIndex(i); // Establece la posición de la ventana.
             playerWindow.setVisible(true);
-            playerWindows.add(playerWindow); // Añade la ventana a la lista.
+            playerWindows.put(player, playerWindow); // Asocia la ventana a su jugador.
         }
     }
 
     /**
-     * Maneja la lógica de cada ronda del juego. Es invocado por el Timer.
-     * Llama a una nueva bola, actualiza la visualización y verifica si hay un ganador.
+     * Aplica en la GUI el resultado de una ronda. Es invocado en el EDT por el {@link GameLoop},
+     * con la instantánea más reciente si se publicaron varias mientras el EDT estaba ocupado.
+     * Actualiza la visualización de la bola y de los cartones y muestra el ganador si lo hay.
      *
-     * @param e El ActionEvent generado por el Timer.
+     * @param snapshot La instantánea de la ronda jugada.
      */
-    private void playNextRound(ActionEvent e) {
-        int calledBall = facade.playRound(); // Llama a la siguiente bola a través de la Facade.
+    private void applyRoundSnapshot(RoundSnapshot snapshot) {
+        if (gameOver || !isDisplayable()) {
+            return; // La partida ya terminó o la ventana se cerró.
+        }
+
+        if (snapshot.isFailed()) {
+            endGame(true); // Se conserva la última instantánea correcta para poder reanudar.
+            JOptionPane.showMessageDialog(this, "Se produjo un error al jugar la ronda. La partida se ha detenido.");
+            closePlayerWindows();
+            return;
+        }
+
+        int calledBall = snapshot.getLastCalledBall();
 
         // Si no quedan más bolas o la llamada devuelve -1, el juego ha terminado.
-        if (calledBall == -1 || !facade.areBallsLeft()) {
-            gameTimer.stop(); // Detiene el temporizador.
+        if (calledBall == -1 || snapshot.getBallsRemaining() == 0) {
+            endGame(false); // Detiene el bucle de juego.
             JOptionPane.showMessageDialog(this, "¡Juego terminado! No quedan más bolas.");
             closePlayerWindows(); // Cierra las ventanas de los jugadores.
             return;
@@ -332,30 +355,26 @@ public class GameWindowGUI extends JFrame {
 
         // Actualiza el visualizador de la bola cantada.
         ballVisualizer.setNumber(calledBall);
+        lastSnapshot = snapshot;
 
-        // Resalta la bola cantada en el panel de historial.
-        if (calledBall >= 1 && calledBall <= 75) {
-            JLabel ballLabelToUpdate = ballLabels.get(calledBall - 1);
-            ballLabelToUpdate.setBackground(new Color(255, 152, 0)); // Color naranja.
-            ballLabelToUpdate.setForeground(Color.WHITE);
-            ballLabelToUpdate.setFont(new Font("Comic Sans MS", Font.BOLD, 16));
+        // Resalta en el panel de historial las bolas cantadas desde la última instantánea aplicada.
+        for (int i = appliedBallCount; i < snapshot.getCalledCount(); i++) {
+            calledBallsBoard.markCalled(snapshot.getCalledBall(i)); // Repinta solo la casilla de esa bola.
         }
+        appliedBallCount = snapshot.getCalledCount();
 
         boolean bingoAchieved = false;
-        WinStrategy currentWinStrategy = facade.getGame().getWinStrategy(); // Obtiene la estrategia de victoria actual.
 
         // Actualiza los cartones de los jugadores y verifica si alguno ha ganado.
         for (Player player : facade.getPlayers()) {
-            for (PlayerCardWindow pw : playerWindows) {
-                if (pw.getTitle().contains(player.getName())) { // Encuentra la ventana del jugador.
-                    pw.updateCardsDisplay(calledBall); // Actualiza la visualización de los cartones del jugador.
-                    break;
-                }
+            PlayerCardWindow pw = playerWindows.get(player); // Ventana del jugador, si ya se creó.
+            if (pw != null) {
+                pw.updateCardsDisplay(snapshot); // Marca los cartones del jugador con las bolas de la instantánea.
             }
 
-            // Verifica si el jugador actual ha ganado.
-            if (player.checkBingoGUI(currentWinStrategy)) {
-                gameTimer.stop(); // Detiene el temporizador.
+            // Verifica si el jugador actual ha ganado (detectado por el bucle de juego al marcar la bola).
+            if (snapshot.getWinners().contains(player)) {
+                endGame(false); // Detiene el bucle de juego.
                 showBingoImage(); // Muestra una imagen de BINGO.
                 showWinnerDialog(player.getName()); // Muestra un diálogo de ganador.
                 closePlayerWindows(); // Cierra todas las ventanas de los jugadores.
@@ -367,13 +386,26 @@ public class GameWindowGUI extends JFrame {
         }
 
         // Si no se logró un Bingo y no quedan más bolas, notifica que nadie ganó.
-        if (!bingoAchieved && !facade.areBallsLeft()) {
-            gameTimer.stop();
+        if (!bingoAchieved && snapshot.isFinished()) {
+            endGame(false);
             JOptionPane.showMessageDialog(this, "Todas las bolas han sido cantadas. ¡Nadie hizo Bingo!");
             closePlayerWindows();
         }
     }
 
+    /**
+     * Marca la partida como terminada en la GUI y detiene definitivamente el bucle de juego
+     * y las instantáneas.
+     *
+     * @param resumable {@code true} si la partida se abandona sin terminar y se podrá reanudar;
+     * {@code false} si terminó y su instantánea ya no sirve.
+     */
+    private void endGame(boolean resumable) {
+        gameOver = true;
+        gameLoop.shutdown(); // También cierra el diario de la partida, tras la última ronda.
+        facade.stopSnapshots(resumable);
+    }
+
     /**
      * Muestra un diálogo con una imagen de "BINGO!" cuando un jugador gana.
      */
@@ -478,10 +510,10 @@ public class GameWindowGUI extends JFrame {
      * Cierra todas las ventanas individuales de los cartones de los jugadores.
      */
     private void closePlayerWindows() {
-        for (PlayerCardWindow pw : playerWindows) {
+        for (PlayerCardWindow pw : playerWindows.values()) {
             pw.dispose(); // Libera los recursos de cada ventana.
         }
-        playerWindows.clear(); // Limpia la lista de ventanas.
+        playerWindows.clear(); // Limpia el mapa de ventanas.
     }
 
     /**
@@ -490,14 +522,19 @@ public class GameWindowGUI extends JFrame {
      * @param e El ActionEvent.
      */
     private void volverAlMenu(ActionEvent e) {
-        gameTimer.stop(); // Detiene el juego mientras se pide confirmación.
+        boolean wasRunning = gameLoop.isRunning();
+        gameLoop.pause(); // Detiene el juego mientras se pide confirmación.
         int confirm = showStyledConfirmation("¿Deseas volver al menú principal?", "Juego Terminado");
+        if (!isDisplayable()) {
+            return; // La partida terminó (y cerró la ventana) mientras se mostraba la confirmación.
+        }
         if (confirm == JOptionPane.YES_OPTION) {
+            endGame(true); // Detiene definitivamente el bucle de juego; la partida se podrá reanudar.
             closePlayerWindows(); // Cierra las ventanas de los jugadores.
             this.dispose(); // Cierra la ventana principal.
             new MainMenuGUI().setVisible(true); // Abre el menú principal.
-        } else {
-            gameTimer.start(); // Si el usuario cancela, reanuda el juego.
+        } else if (wasRunning && !gameOver) {
+            gameLoop.start(); // Si el usuario cancela, reanuda el juego.
         }
     }
 
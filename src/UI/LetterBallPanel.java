@@ -0,0 +1,76 @@
+package UI;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Clase LetterBallPanel
+ *
+ * Componente que dibuja una de las bolas decorativas con las letras B-I-N-G-O de la ventana
+ * principal. Su contenido no cambia durante la partida, así que la bola completa (círculo,
+ * borde y letra) se pre-dibuja una vez por tamaño y cada repintado solo copia la imagen.
+ *
+ * No implementa directamente un patrón de diseño GoF; es un componente de la capa de
+ * Presentación (UI) utilizado por {@link GameWindowGUI}.
+ */
+public class LetterBallPanel extends JPanel {
+
+    /**
+     * Fuente de la letra, compartida por todas las bolas.
+     */
+    private static final Font LETTER_FONT = new Font("Comic Sans MS", Font.BOLD, 28);
+
+    /**
+     * Trazo del borde blanco de la bola.
+     */
+    private static final BasicStroke BORDER_STROKE = new BasicStroke(4);
+
+    private final String letter;        // Letra que muestra la bola.
+    private final Color background;     // Color de la bola.
+    private final CachedBackground cachedBall = new CachedBackground(this::paintBall);
+
+    /**
+     * Constructor para LetterBallPanel.
+     *
+     * @param letter La letra a mostrar.
+     * @param background El color de fondo de la bola.
+     */
+    public LetterBallPanel(String letter, Color background) {
+        this.letter = letter;
+        this.background = background;
+        setPreferredSize(new Dimension(60, 60)); // Tamaño preferido para cada bola de letra.
+        setOpaque(false);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2 = (Graphics2D) g.create();
+        cachedBall.draw(g2, getWidth(), getHeight()); // Se regenera solo si cambió el tamaño.
+        g2.dispose();
+    }
+
+    /**
+     * Dibuja la bola completa; solo se invoca al regenerar la imagen cacheada.
+     */
+    private void paintBall(Graphics2D g2, int width, int height) {
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        int size = Math.min(width, height) - 8; // Tamaño de la bola.
+        int x = (width - size) / 2;
+        int y = (height - size) / 2;
+
+        g2.setColor(background); // Color de fondo de la bola.
+        g2.fillOval(x, y, size, size); // Dibuja la bola.
+
+        g2.setColor(Color.WHITE); // Borde blanco.
+        g2.setStroke(BORDER_STROKE);
+        g2.drawOval(x, y, size, size);
+
+        g2.setFont(LETTER_FONT); // Fuente de la letra.
+        FontMetrics fm = g2.getFontMetrics();
+        int textWidth = fm.stringWidth(letter);
+        int textHeight = fm.getAscent();
+        g2.drawString(letter, width / 2 - textWidth / 2, height / 2 + textHeight / 4); // Dibuja la letra centrada.
+    }
+}
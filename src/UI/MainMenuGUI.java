@@ -2,6 +2,7 @@ package UI;
 
 import Patterns.Behavioral.Command.Command; 
 import Patterns.Behavioral.Command.ExitCommand;
+import Patterns.Behavioral.Command.ResumeGameCommand;
 import Patterns.Behavioral.Command.ShowInstructionsCommand;
 import Patterns.Behavioral.Command.StartGameCommand;
 
@@ -9,12 +10,14 @@ import javax.swing.*;
 import javax.swing.border.*;
 import java.awt.*;
 import java.net.URL;
+import java.nio.file.Files;
 
 /**
  * Clase MainMenuGUI
  *
  * Esta clase representa la ventana principal del menú del juego de Bingo.
- * Permite al usuario iniciar un nuevo juego, ver las instrucciones o salir de la aplicación.
+ * Permite al usuario iniciar un nuevo juego, reanudar la partida guardada (si la hay),
+ * ver las instrucciones o salir de la aplicación.
  *
  * Implementa el patrón de diseño Command para las acciones de los botones,
  * desacoplando la lógica de la acción del componente de la interfaz de usuario que la invoca.
@@ -100,21 +103,27 @@ public class MainMenuGUI extends JFrame {
 
         // Creación de los objetos Command (patrón Command).
         Command startCommand = new StartGameCommand(this); // Command para iniciar el juego.
+        Command resumeCommand = new ResumeGameCommand(this); // Command para reanudar la partida guardada.
         Command instructionsCommand = new ShowInstructionsCommand(this); // Command para mostrar instrucciones.
         Command exitCommand = new ExitCommand(); // Command para salir de la aplicación.
 
         // Creación de los JButtons con estilo personalizado.
         JButton startButton = createStyledButton("Comenzar juego", new Color(76, 175, 80)); // Verde.
+        JButton resumeButton = createStyledButton("Reanudar partida", new Color(255, 152, 0)); // Naranja.
         JButton instructionsButton = createStyledButton("Instrucciones", new Color(33, 150, 243)); // Azul.
         JButton exitButton = createStyledButton("Salir", new Color(244, 67, 54)); // Rojo.
 
         // Asignación de los Commands a los ActionListeners de los botones (Invoker).
         startButton.addActionListener(e -> startCommand.execute());
+        resumeButton.addActionListener(e -> resumeCommand.execute());
         instructionsButton.addActionListener(e -> instructionsCommand.execute());
         exitButton.addActionListener(e -> exitCommand.execute());
 
         // Añade los botones al panel de botones usando GridBagConstraints.
         buttonsPanel.add(startButton, gbc);
+        if (Files.exists(GameWindowGUI.SNAPSHOT_FILE)) {
+            buttonsPanel.add(resumeButton, gbc); // Solo si quedó una partida sin terminar.
+        }
         buttonsPanel.add(instructionsButton, gbc);
         buttonsPanel.add(exitButton, gbc);
 
@@ -1,25 +1,27 @@
 package UI;
 
-import Core.Card; 
 import Players.Player; 
 
+import Patterns.Structural.Decorator.BaseCellStyleProvider;
+import Patterns.Structural.Decorator.ICellStyleProvider;
+import Patterns.Structural.Decorator.MarkedCellStyleDecorator;
+
 import javax.swing.*;
 import java.awt.*;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Clase PlayerCardWindow
  *
  * Esta clase representa una ventana separada en la interfaz gráfica de usuario
  * que muestra los cartones de Bingo de un jugador específico.
- * Utiliza JEditorPane para renderizar los cartones como HTML, permitiendo estilos
- * y resaltados dinámicos (gracias al patrón Decorator implementado en el formateador
- * de números de cartón del jugador).
+ * Los cartones se muestran en un {@link CardWallPanel} desplazable y virtualizado: solo los
+ * cartones visibles tienen un {@link CardGridComponent}, que los dibuja directamente con Java2D
+ * usando el proveedor de estilos de casilla del jugador (patrón Decorator), y que en cada bola
+ * solo repinta las casillas cuyo estado cambió.
  *
  * No es un participante directo en un patrón de diseño GoF como rol principal,
  * pero es un componente de la capa de presentación que colabora con el patrón Decorator
- * (a través de {@link Players.Player#getCardDisplayString}) y es orquestado por el
+ * (a través de {@link Players.Player#getCellStyleProvider}) y es orquestado por el
  * {@link GameWindowGUI}.
  */
 public class PlayerCardWindow extends JFrame {
@@ -30,10 +32,9 @@ public class PlayerCardWindow extends JFrame {
     private Player player;
 
     /**
-     * Un mapa que asocia cada objeto Card del jugador con su correspondiente JEditorPane
-     * en la interfaz, para facilitar la actualización.
+     * El muro virtualizado que muestra los cartones del jugador.
      */
-    private Map<Card, JEditorPane> cardDisplayPanes;
+    private CardWallPanel cardWall;
 
     /**
      * Una referencia a la ventana principal del juego (GameWindowGUI),
@@ -41,72 +42,52 @@ public class PlayerCardWindow extends JFrame {
      */
     private JFrame parentFrame;
 
-    // Dimensiones base para el tamaño de cada JEditorPane que representa un cartón.
+    // Dimensiones base para el tamaño de cada componente que representa un cartón.
     // Se han ajustado para ser un tamaño "medio" que visualmente funciona bien.
     private static final int CARD_WIDTH_BASE = 200;
     private static final int CARD_HEIGHT_BASE = 200;
 
     // Espaciado interno y externo para los componentes.
     private static final int PADDING = 10;
-    // Espacio reservado para el título de la ventana y el nombre del jugador.
-    private static final int TITLE_HEIGHT = 45;
-
-    // Ajuste de altura adicional si solo hay una fila de cartones, para centrar mejor.
-    private static final int SINGLE_ROW_HEIGHT_ADJUSTMENT = 30;
+    // Filas de cartones visibles a la vez; el resto se alcanza desplazando el muro.
+    private static final int MAX_VISIBLE_ROWS = 3;
 
     /**
      * Constructor para PlayerCardWindow.
      *
      * @param player El objeto {@link Player} cuyos cartones se mostrarán.
      * @param parentFrame La ventana principal del juego ({@link GameWindowGUI}) para posicionamiento relativo.
+     * @param snapshot La última instantánea de la partida aplicada en la GUI, con las bolas ya cantadas.
      */
-    public PlayerCardWindow(Player player, JFrame parentFrame) {
+    public PlayerCardWindow(Player player, JFrame parentFrame, RoundSnapshot snapshot) {
         this.player = player;
         this.parentFrame = parentFrame;
-        this.cardDisplayPanes = new HashMap<>(); // Inicializa el mapa de JEditorPanes.
 
         setTitle("Cartones de " + player.getName()); // Título de la ventana.
         // Evita que la ventana se cierre individualmente, solo se cerrará con la ventana principal.
         setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
 
-        calculateAndSetWindowSize(); // Calcula y establece el tamaño de la ventana según el número de cartones.
-        initUI(); // Inicializa los componentes de la interfaz de usuario.
+        initUI(snapshot); // Inicializa los componentes de la interfaz de usuario.
+        calculateAndSetWindowSize(); // Ajusta el tamaño de la ventana a los cartones visibles.
     }
 
     /**
-     * Calcula el tamaño óptimo de la ventana basándose en la cantidad de cartones
-     * del jugador y establece las dimensiones de la ventana.
+     * Ajusta el tamaño de la ventana a su contenido: hasta 2 columnas y {@link #MAX_VISIBLE_ROWS} filas
+     * de cartones visibles; si el jugador tiene más, el muro de cartones se desplaza verticalmente.
      */
     private void calculateAndSetWindowSize() {
-        int numCards = player.getCards().size();
-        int rows = 1;
-        int cols = numCards;
-
-        // Si hay más de 2 cartones, organiza en 2 columnas para una mejor visualización.
-        if (numCards > 2) {
-            cols = 2;
-            rows = (int) Math.ceil((double) numCards / cols); // Calcula las filas necesarias.
-        }
-
-        // Calcula el ancho total: columnas * ancho base del cartón + padding entre columnas y en los bordes.
-        int totalWidth = cols * CARD_WIDTH_BASE + (cols + 1) * PADDING;
-        // Calcula la altura total: filas * alto base del cartón + padding entre filas y en los bordes + altura del título.
-        int totalHeight = rows * CARD_HEIGHT_BASE + (rows + 1) * PADDING + TITLE_HEIGHT;
-
-        // Ajuste adicional para el caso de una sola fila, para que el contenido se vea mejor centrado.
-        if (rows == 1) {
-            totalHeight += SINGLE_ROW_HEIGHT_ADJUSTMENT;
-        }
-
-        setSize(totalWidth, totalHeight); // Establece el tamaño de la ventana.
+        pack(); // El viewport pide el espacio de la rejilla visible preferida del muro (más la barra si hace falta).
         setResizable(false); // La ventana no es redimensionable.
     }
 
     /**
      * Inicializa y organiza los componentes de la interfaz de usuario dentro de esta ventana.
-     * Crea un JEditorPane para cada cartón del jugador.
+     * Los cartones se muestran en un {@link CardWallPanel} virtualizado dentro de un panel con desplazamiento,
+     * que solo crea componentes para los cartones visibles.
+     *
+     * @param snapshot La instantánea con la que se muestran inicialmente los cartones.
      */
-    private void initUI() {
+    private void initUI(RoundSnapshot snapshot) {
         JPanel mainPanel = new JPanel(new BorderLayout());
         mainPanel.setBorder(BorderFactory.createEmptyBorder(PADDING, PADDING, PADDING, PADDING));
         mainPanel.setBackground(new Color(255, 240, 200)); // Fondo de color crema/naranja muy suave.
@@ -118,68 +99,40 @@ public class PlayerCardWindow extends JFrame {
         playerNameLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, PADDING, 0)); // Espacio inferior.
         mainPanel.add(playerNameLabel, BorderLayout.NORTH); // Añade el nombre en la parte superior.
 
-        // Panel que contendrá los cartones, usando GridBagLayout para una disposición flexible.
-        JPanel cardsPanel = new JPanel(new GridBagLayout());
-        cardsPanel.setOpaque(false); // Transparente para que se vea el fondo del mainPanel.
-        GridBagConstraints gbc = new GridBagConstraints();
-        gbc.insets = new Insets(PADDING, PADDING, PADDING, PADDING); // Padding alrededor de cada cartón.
-        gbc.fill = GridBagConstraints.BOTH; // Los componentes se estiran en ambas direcciones.
-        gbc.weightx = 1.0; // Los cartones pueden crecer horizontalmente.
-        gbc.weighty = 0.01; // Pequeño peso vertical para permitir un poco de crecimiento.
-
-        int currentCardIndex = 0;
-        // Determina el número máximo de columnas (1 o 2).
-        int maxCols = (player.getCards().size() > 2) ? 2 : player.getCards().size();
-
-        // Itera sobre cada cartón del jugador para crear su JEditorPane correspondiente.
-        for (Card card : player.getCards()) {
-            JEditorPane cardPane = new JEditorPane();
-            cardPane.setContentType("text/html"); // Importante: para renderizar HTML.
-            cardPane.setEditable(false); // No editable.
-            cardPane.setOpaque(true);
-            cardPane.setBackground(Color.WHITE); // Fondo blanco para el cartón.
-
-            // Establece el tamaño preferido del JEditorPane.
-            // Aunque el contenido HTML de la tabla será más pequeño, el JEditorPane en sí
-            // debe tener el tamaño suficiente para contener el HTML sin cortar bordes.
-            cardPane.setPreferredSize(new Dimension(CARD_WIDTH_BASE - (2 * PADDING), CARD_HEIGHT_BASE - (2 * PADDING)));
-
-            // Borde del cartón.
-            cardPane.setBorder(BorderFactory.createLineBorder(new Color(0, 150, 136), 4)); // Color teal, grosor 4px.
-
-            cardDisplayPanes.put(card, cardPane); // Almacena el JEditorPane asociado a la Card.
-
-            // Posiciona el JEditorPane en el GridBagLayout.
-            gbc.gridx = currentCardIndex % maxCols; // Columna.
-            gbc.gridy = currentCardIndex / maxCols; // Fila.
-            cardsPanel.add(cardPane, gbc);
-
-            currentCardIndex++;
+        // Proveedor de estilos de casilla del jugador; si no se configuró, al menos se distinguen las marcadas.
+        ICellStyleProvider styleProvider = player.getCellStyleProvider();
+        if (styleProvider == null) {
+            styleProvider = new MarkedCellStyleDecorator(new BaseCellStyleProvider());
         }
-        mainPanel.add(cardsPanel, BorderLayout.CENTER); // Añade el panel de cartones al panel principal.
+
+        // Muro de cartones: el tamaño de cada cartón y el espacio entre ellos son los de la rejilla anterior.
+        cardWall = new CardWallPanel(player.getCards(), styleProvider,
+                CARD_WIDTH_BASE - (2 * PADDING), CARD_HEIGHT_BASE - (2 * PADDING), 2 * PADDING);
+        cardWall.setPreferredGrid(2, MAX_VISIBLE_ROWS); // Hasta 2 columnas, como antes.
+
+        JScrollPane scrollPane = new JScrollPane(cardWall,
+                ScrollPaneConstants.VERTICAL_SCROLLBAR_AS_NEEDED,
+                ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder());
+        scrollPane.setOpaque(false);
+        scrollPane.getViewport().setOpaque(false); // Transparente para que se vea el fondo del mainPanel.
+        mainPanel.add(scrollPane, BorderLayout.CENTER); // Añade el muro de cartones al panel principal.
         add(mainPanel); // Añade el panel principal a la ventana.
 
-        // Inicializa la visualización de los cartones. Pasa 'null' ya que al inicio no hay bola cantada.
-        updateCardsDisplay(null);
+        // Inicializa la visualización de los cartones con las bolas ya cantadas (ninguna al empezar la partida).
+        updateCardsDisplay(snapshot);
     }
 
     /**
      * Actualiza la visualización de todos los cartones del jugador.
      * Este método se llama en cada ronda del juego para reflejar los números marcados
-     * y el último número cantado.
+     * y el último número cantado. Solo se actualizan los cartones visibles, y de ellos solo las casillas que cambiaron.
+     * Las marcas se calculan a partir de las bolas cantadas de la instantánea.
      *
-     * @param lastCalledBall El último número de bola que ha sido cantado. Puede ser `null`
-     * para la actualización inicial.
+     * @param snapshot La instantánea de la ronda jugada.
      */
-    public void updateCardsDisplay(Integer lastCalledBall) {
-        for (Map.Entry<Card, JEditorPane> entry : cardDisplayPanes.entrySet()) {
-            Card card = entry.getKey();
-            JEditorPane pane = entry.getValue();
-            // Obtiene la representación HTML del cartón del jugador, que aplica los decoradores.
-            pane.setText(player.getCardDisplayString(card, lastCalledBall));
-            pane.revalidate(); // Revalida el layout del componente.
-            pane.repaint(); // Repinta el componente para mostrar los cambios.
-        }
+    public void updateCardsDisplay(RoundSnapshot snapshot) {
+        cardWall.updateCards(snapshot);
     }
 
     /**
@@ -236,4 +189,4 @@ public class PlayerCardWindow extends JFrame {
     public String getPlayerName() {
         return player.getName();
     }
-}
\ No newline at end of file
+}
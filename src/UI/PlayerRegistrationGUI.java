@@ -1,5 +1,6 @@
 package UI;
 
+import Core.CardLibrary;
 import Core.Game;
 import Patterns.Creational.Builder.DefaultGameBuilder; 
 import Patterns.Creational.Builder.GameBuilder; 
@@ -11,7 +12,11 @@ import Players.*;
 import javax.swing.*;
 import javax.swing.border.*; 
 import java.awt.*;
+import java.io.IOException;
 import java.net.URL; 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -46,6 +51,12 @@ public class PlayerRegistrationGUI {
     private int currentPlayerIndex = 0; // Índice del jugador actual en el proceso de registro.
     private List<Player> players = new ArrayList<>(); // Lista para almacenar los objetos Player registrados.
 
+    // Diario donde se registran las partidas; cada partida nueva se añade al final.
+    public static final Path JOURNAL_FILE = Paths.get("partidas.bjnl");
+
+    // Biblioteca opcional de cartones pre-impresos; si existe, los cartones se asignan de ella.
+    public static final Path CARD_LIBRARY_FILE = Paths.get("cartones.blib");
+
     private JFrame mainFrame; // La ventana principal de registro.
     private JPanel mainContentPane; // El panel de contenido principal de la ventana.
 
@@ -416,8 +427,15 @@ public class PlayerRegistrationGUI {
 
         // Patrón Facade: Provee una interfaz simplificada para la configuración del juego.
         GameFacade facade = new GameFacade(game);
-        facade.registerPlayers(players); // Registra los jugadores obtenidos del registro.
+        if (!registrarConBiblioteca(facade)) {
+            facade.registerPlayers(players); // Registra los jugadores con cartones generados al azar.
+        }
         facade.initializeGameSettings(); // Inicializa otras configuraciones del juego.
+        try {
+            facade.attachJournal(JOURNAL_FILE); // Registra la partida en el diario para poder reconstruirla.
+        } catch (IOException e) {
+            e.printStackTrace(); // La partida se juega igualmente, aunque sin registrar.
+        }
 
         // Lanza la ventana principal del juego.
         SwingUtilities.invokeLater(() -> {
@@ -425,4 +443,33 @@ public class PlayerRegistrationGUI {
             window.setVisible(true);
         });
     }
+
+    /**
+     * Si existe la biblioteca de cartones pre-impresos y tiene cartones 5x5 suficientes, registra a
+     * los jugadores con los cartones de la biblioteca, desde el primer número de serie (cada partida
+     * vuelve a repartir la misma serie, como los cartones impresos de una sala).
+     *
+     * @param facade La fachada del juego.
+     * @return `true` si los jugadores quedaron registrados con cartones de la biblioteca.
+     */
+    private boolean registrarConBiblioteca(GameFacade facade) {
+        if (!Files.exists(CARD_LIBRARY_FILE)) {
+            return false;
+        }
+        int totalCards = 0;
+        for (Player player : players) {
+            totalCards += player.getTempCardCount();
+        }
+        boolean registered = false;
+        try (CardLibrary library = CardLibrary.open(CARD_LIBRARY_FILE)) {
+            if (library.getRows() == 5 && library.getCols() == 5 && library.getCardCount() >= totalCards) {
+                facade.useCardLibrary(library, library.getFirstSerial());
+                facade.registerPlayers(players);
+                registered = true;
+            }
+        } catch (IOException e) {
+            e.printStackTrace(); // Se juega con cartones generados al azar.
+        }
+        return registered;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package UI;
+
+import Players.Player;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Clase RoundSnapshot
+ *
+ * Instantánea inmutable del estado de la partida al terminar una ronda, publicada por el
+ * {@link GameLoop} (que juega las rondas fuera del hilo de eventos de Swing) para que la GUI
+ * la aplique. Como la GUI puede saltarse instantáneas intermedias si se acumulan, cada una
+ * lleva el historial completo de bolas cantadas y no solo la última. Con ese historial la GUI
+ * calcula también las marcas de los cartones ({@link Core.Card#getMarkedMask(java.util.BitSet)}),
+ * en lugar de leer las del {@link Core.CardStore} que el bucle sigue escribiendo.
+ */
+public final class RoundSnapshot {
+
+    private final int lastCalledBall;
+    private final int[] calledBalls;
+    private final int ballsRemaining;
+    private final List<Player> winners;
+    private final boolean finished;
+    private final boolean failed;
+
+    /**
+     * Crea una instantánea del estado de la partida.
+     *
+     * @param lastCalledBall La bola cantada en la ronda, o -1 si no se cantó ninguna.
+     * @param calledBalls Las bolas cantadas hasta el momento, en orden (no se copia).
+     * @param ballsRemaining Las bolas que quedan en el bombo.
+     * @param winners Los jugadores que han hecho Bingo, en orden (vacío si no hay).
+     * @param finished Si la partida terminó (hubo Bingo o se agotaron las bolas).
+     * @param failed Si la partida se detuvo por un error al jugar la ronda.
+     */
+    public RoundSnapshot(int lastCalledBall, int[] calledBalls, int ballsRemaining,
+                         List<Player> winners, boolean finished, boolean failed) {
+        this.lastCalledBall = lastCalledBall;
+        this.calledBalls = calledBalls;
+        this.ballsRemaining = ballsRemaining;
+        this.winners = Collections.unmodifiableList(winners);
+        this.finished = finished;
+        this.failed = failed;
+    }
+
+    /**
+     * Obtiene la bola cantada en la ronda.
+     *
+     * @return La bola, o -1 si no se cantó ninguna.
+     */
+    public int getLastCalledBall() {
+        return lastCalledBall;
+    }
+
+    /**
+     * Obtiene el número de bolas cantadas hasta el momento.
+     *
+     * @return La cantidad de bolas cantadas.
+     */
+    public int getCalledCount() {
+        return calledBalls.length;
+    }
+
+    /**
+     * Obtiene la bola cantada en una posición del historial.
+     *
+     * @param index La posición (0 es la primera bola cantada).
+     * @return El número de la bola.
+     */
+    public int getCalledBall(int index) {
+        return calledBalls[index];
+    }
+
+    /**
+     * Obtiene las bolas que quedan en el bombo.
+     *
+     * @return La cantidad de bolas restantes.
+     */
+    public int getBallsRemaining() {
+        return ballsRemaining;
+    }
+
+    /**
+     * Obtiene los ganadores de la partida.
+     *
+     * @return Una lista inmutable de ganadores (vacía si no hay).
+     */
+    public List<Player> getWinners() {
+        return winners;
+    }
+
+    /**
+     * Indica si la partida terminó.
+     *
+     * @return {@code true} si hubo Bingo o se agotaron las bolas.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Indica si la partida se detuvo por un error.
+     *
+     * @return {@code true} si falló una ronda.
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+}